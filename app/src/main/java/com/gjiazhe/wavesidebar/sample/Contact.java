@@ -1,5 +1,7 @@
 package com.gjiazhe.wavesidebar.sample;
 
+import com.gjiazhe.wavesidebar.SectionIndex;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -7,6 +9,14 @@ import java.util.List;
  * Created by gjz on 9/3/16.
  */
 public class Contact {
+    public static final SectionIndex.LabelExtractor<Contact> INDEX_EXTRACTOR =
+            new SectionIndex.LabelExtractor<Contact>() {
+                @Override
+                public String getLabel(Contact contact) {
+                    return contact.getIndex();
+                }
+            };
+
     private String index;
     private String name;
 
@@ -32,13 +42,13 @@ public class Contact {
         contacts.add(new Contact("B", "Betty"));
         contacts.add(new Contact("B", "Bob"));
         contacts.add(new Contact("B", "Brian"));
-        contacts.add(new Contact("C", "Carl"));
         contacts.add(new Contact("C", "Candy"));
+        contacts.add(new Contact("C", "Carl"));
         contacts.add(new Contact("C", "Carlos"));
         contacts.add(new Contact("C", "Charles"));
         contacts.add(new Contact("C", "Christina"));
-        contacts.add(new Contact("D", "David"));
         contacts.add(new Contact("D", "Daniel"));
+        contacts.add(new Contact("D", "David"));
         contacts.add(new Contact("E", "Elizabeth"));
         contacts.add(new Contact("E", "Eric"));
         contacts.add(new Contact("E", "Eva"));
@@ -46,8 +56,8 @@ public class Contact {
         contacts.add(new Contact("F", "Frank"));
         contacts.add(new Contact("I", "Ivy"));
         contacts.add(new Contact("J", "James"));
-        contacts.add(new Contact("J", "John"));
         contacts.add(new Contact("J", "Jessica"));
+        contacts.add(new Contact("J", "John"));
         contacts.add(new Contact("K", "Karen"));
         contacts.add(new Contact("K", "Karl"));
         contacts.add(new Contact("K", "Kim"));
@@ -55,10 +65,10 @@ public class Contact {
         contacts.add(new Contact("L", "Lisa"));
         contacts.add(new Contact("P", "Paul"));
         contacts.add(new Contact("P", "Peter"));
-        contacts.add(new Contact("S", "Sarah"));
-        contacts.add(new Contact("S", "Steven"));
         contacts.add(new Contact("R", "Robert"));
         contacts.add(new Contact("R", "Ryan"));
+        contacts.add(new Contact("S", "Sarah"));
+        contacts.add(new Contact("S", "Steven"));
         contacts.add(new Contact("T", "Tom"));
         contacts.add(new Contact("T", "Tony"));
         contacts.add(new Contact("W", "Wendy"));
@@ -32,12 +32,6 @@ public class ContactsAdapter extends RecyclerView.Adapter<ContactsAdapter.Contac
     @Override
     public void onBindViewHolder(ContactsViewHolder holder, int position) {
         Contact contact = contacts.get(position);
-        if (position == 0 || !contacts.get(position-1).getIndex().equals(contact.getIndex())) {
-            holder.tvIndex.setVisibility(View.VISIBLE);
-            holder.tvIndex.setText(contact.getIndex());
-        } else {
-            holder.tvIndex.setVisibility(View.GONE);
-        }
         holder.tvName.setText(contact.getName());
     }
 
@@ -47,13 +41,11 @@ public class ContactsAdapter extends RecyclerView.Adapter<ContactsAdapter.Contac
     }
 
     class ContactsViewHolder extends RecyclerView.ViewHolder {
-        public TextView tvIndex;
         public ImageView ivAvatar;
         public TextView tvName;
 
         public ContactsViewHolder(View itemView) {
             super(itemView);
-            tvIndex = (TextView) itemView.findViewById(R.id.tv_index);
             ivAvatar = (ImageView) itemView.findViewById(R.id.iv_avatar);
             tvName = (TextView) itemView.findViewById(R.id.tv_name);
         }
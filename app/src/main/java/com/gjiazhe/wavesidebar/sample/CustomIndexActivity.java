@@ -5,6 +5,9 @@ import android.os.Bundle;
 import android.support.v7.widget.LinearLayoutManager;
 import android.support.v7.widget.RecyclerView;
 
+import com.gjiazhe.wavesidebar.SectionHeaderDecoration;
+import com.gjiazhe.wavesidebar.SectionIndex;
+import com.gjiazhe.wavesidebar.SectionScroller;
 import com.gjiazhe.wavesidebar.WaveSideBar;
 
 import java.util.ArrayList;
@@ -31,17 +34,11 @@ public class CustomIndexActivity extends AppCompatActivity {
 
         sideBar = (WaveSideBar) findViewById(R.id.side_bar);
         sideBar.setIndexItems("あ", "か", "さ", "た", "な", "は", "ま", "や", "ら", "わ");
-        sideBar.setOnSelectIndexItemListener(new WaveSideBar.OnSelectIndexItemListener() {
-            @Override
-            public void onSelectIndexItem(String index) {
-                for (int i=0; i<contacts.size(); i++) {
-                    if (contacts.get(i).getIndex().equals(index)) {
-                        ((LinearLayoutManager) rvContacts.getLayoutManager()).scrollToPositionWithOffset(i, 0);
-                        return;
-                    }
-                }
-            }
-        });
+        SectionIndex sectionIndex = new SectionIndex(sideBar.getIndexItems(), contacts, Contact.INDEX_EXTRACTOR);
+        sideBar.setSectionStartPositions(sectionIndex.getSectionStartPositions());
+        sideBar.setOnSelectIndexListener(
+                new SectionScroller((LinearLayoutManager) rvContacts.getLayoutManager(), sectionIndex));
+        rvContacts.addItemDecoration(new SectionHeaderDecoration(this, sectionIndex));
     }
 
     private void initData() {
@@ -5,6 +5,13 @@ import android.os.Bundle;
 import android.support.v7.widget.LinearLayoutManager;
 import android.support.v7.widget.RecyclerView;
 
+import com.gjiazhe.wavesidebar.PrefixTrie;
+import com.gjiazhe.wavesidebar.SectionHeaderDecoration;
+import com.gjiazhe.wavesidebar.SectionIndex;
+import com.gjiazhe.wavesidebar.SectionIndexLoader;
+import com.gjiazhe.wavesidebar.SectionPrefetcher;
+import com.gjiazhe.wavesidebar.SectionScrollTracker;
+import com.gjiazhe.wavesidebar.SectionScroller;
 import com.gjiazhe.wavesidebar.WaveSideBar;
 
 import java.util.ArrayList;
@@ -30,17 +37,19 @@ public class RightPositionActivity extends AppCompatActivity {
         rvContacts.setLayoutManager(new LinearLayoutManager(this));
         rvContacts.setAdapter(new ContactsAdapter(contacts, R.layout.item_contacts));
         sideBar = (WaveSideBar) findViewById(R.id.side_bar);
-        sideBar.setOnSelectIndexItemListener(new WaveSideBar.OnSelectIndexItemListener() {
+        SectionIndex sectionIndex = new SectionIndex(sideBar.getIndexItems(), contacts, Contact.INDEX_EXTRACTOR);
+        sideBar.setSectionStartPositions(sectionIndex.getSectionStartPositions());
+        sideBar.setOnSelectIndexListener(new SectionPrefetcher(sideBar, rvContacts, sectionIndex,
+                new SectionScroller((LinearLayoutManager) rvContacts.getLayoutManager(), sectionIndex)));
+        rvContacts.addItemDecoration(new SectionHeaderDecoration(this, sectionIndex));
+        new SectionScrollTracker(sideBar, sectionIndex).attachTo(rvContacts);
+        // hold on a letter to jump to the first two letters of the names
+        sideBar.setSubIndexProvider(new PrefixTrie(contacts, new SectionIndexLoader.KeyExtractor<Contact>() {
             @Override
-            public void onSelectIndexItem(String index) {
-                for (int i=0; i<contacts.size(); i++) {
-                    if (contacts.get(i).getIndex().equals(index)) {
-                        ((LinearLayoutManager) rvContacts.getLayoutManager()).scrollToPositionWithOffset(i, 0);
-                        return;
-                    }
-                }
+            public CharSequence getKey(Contact contact) {
+                return contact.getName();
             }
-        });
+        }, 2));
     }
 
     private void initData() {
@@ -0,0 +1,160 @@
+package com.gjiazhe.wavesidebar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of placing every item of the side bar for a frame of the wave: the loop onDraw had,
+ * which switched over the position and the alignment and computed the baseline and the scale
+ * of each item, against the loop over the baselines filled on the measure pass.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaseLineBenchmark {
+    private static final float ITEM_HEIGHT = 48;
+    private static final float BAR_WIDTH = 60;
+    private static final float MAX_OFFSET = 240;
+    private static final float PADDING = 16;
+    private static final float WIDTH = 1080;
+    private static final float WAVE_RADIUS = 4;
+
+    /**
+     * the number of touch positions cycled through, a power of 2
+     */
+    private static final int TOUCH_COUNT = 1024;
+
+    @Param({"26", "100", "500"})
+    public int itemCount;
+
+    @Param({"0", "1"})
+    public int sideBarPosition;
+
+    @Param({"0", "1", "2"})
+    public int textAlignment;
+
+    private final IndexLayout mLayout = new IndexLayout();
+    private float mFirstItemBaseLineY;
+    private float[] mItemBaseLineX;
+    private float[] mItemBaseLineY;
+    private float mOffsetSign;
+    private final float[] mTouchYs = new float[TOUCH_COUNT];
+    private int mTouch;
+
+    @Setup
+    public void setUp() {
+        mLayout.setWave(WAVE_RADIUS, IndexLayout.WAVE_CURVE_QUADRATIC);
+        mLayout.layoutRows(itemCount, null, ITEM_HEIGHT, Float.MAX_VALUE, false);
+        mFirstItemBaseLineY = ITEM_HEIGHT / 2;
+
+        // what the measure pass fills
+        float baseLineX = 0f;
+        if (sideBarPosition == WaveSideBar.POSITION_LEFT) {
+            mOffsetSign = 1;
+            switch (textAlignment) {
+                case WaveSideBar.TEXT_ALIGN_CENTER: baseLineX = PADDING + BAR_WIDTH/2; break;
+                case WaveSideBar.TEXT_ALIGN_LEFT:   baseLineX = PADDING; break;
+                case WaveSideBar.TEXT_ALIGN_RIGHT:  baseLineX = PADDING + BAR_WIDTH; break;
+            }
+        } else {
+            mOffsetSign = -1;
+            switch (textAlignment) {
+                case WaveSideBar.TEXT_ALIGN_CENTER: baseLineX = WIDTH - PADDING - BAR_WIDTH/2; break;
+                case WaveSideBar.TEXT_ALIGN_RIGHT:  baseLineX = WIDTH - PADDING; break;
+                case WaveSideBar.TEXT_ALIGN_LEFT:   baseLineX = WIDTH - PADDING - BAR_WIDTH; break;
+            }
+        }
+        mItemBaseLineX = new float[itemCount];
+        mItemBaseLineY = new float[itemCount];
+        Arrays.fill(mItemBaseLineX, baseLineX);
+        mLayout.fillBaseLinesY(mItemBaseLineY, mFirstItemBaseLineY, ITEM_HEIGHT);
+
+        // the same touches on every run
+        Random random = new Random(42);
+        for (int i = 0; i < TOUCH_COUNT; i++) {
+            mTouchYs[i] = random.nextFloat() * mLayout.getBarHeight();
+        }
+    }
+
+    private float nextTouchY() {
+        mTouch = (mTouch + 1) & (TOUCH_COUNT - 1);
+        return mTouchYs[mTouch];
+    }
+
+    /**
+     * the loop of onDraw before the baselines were filled on the measure pass
+     */
+    @Benchmark
+    public float nestedSwitch() {
+        float touchY = nextTouchY();
+        float sum = 0;
+        for (int i = 0; i < itemCount; i++) {
+            float baseLineY = mFirstItemBaseLineY + ITEM_HEIGHT*i;
+
+            float distance = Math.abs(touchY - (ITEM_HEIGHT*i + ITEM_HEIGHT/2)) / ITEM_HEIGHT;
+            float scale = 1 - distance*distance/(WAVE_RADIUS*WAVE_RADIUS);
+            scale = Math.max(scale, 0);
+
+            float baseLineX = 0f;
+            if (sideBarPosition == WaveSideBar.POSITION_LEFT) {
+                switch (textAlignment) {
+                    case WaveSideBar.TEXT_ALIGN_CENTER:
+                        baseLineX = PADDING + BAR_WIDTH/2 + MAX_OFFSET*scale;
+                        break;
+                    case WaveSideBar.TEXT_ALIGN_LEFT:
+                        baseLineX = PADDING + MAX_OFFSET*scale;
+                        break;
+                    case WaveSideBar.TEXT_ALIGN_RIGHT:
+                        baseLineX = PADDING + BAR_WIDTH + MAX_OFFSET*scale;
+                        break;
+                }
+            } else {
+                switch (textAlignment) {
+                    case WaveSideBar.TEXT_ALIGN_CENTER:
+                        baseLineX = WIDTH - PADDING - BAR_WIDTH/2 - MAX_OFFSET*scale;
+                        break;
+                    case WaveSideBar.TEXT_ALIGN_RIGHT:
+                        baseLineX = WIDTH - PADDING - MAX_OFFSET*scale;
+                        break;
+                    case WaveSideBar.TEXT_ALIGN_LEFT:
+                        baseLineX = WIDTH - PADDING - BAR_WIDTH - MAX_OFFSET*scale;
+                        break;
+                }
+            }
+            sum += baseLineX + baseLineY;
+        }
+        return sum;
+    }
+
+    /**
+     * the loop of onDraw over the baselines filled on the measure pass
+     */
+    @Benchmark
+    public float table() {
+        float waveY = nextTouchY();
+        float offset = mOffsetSign * MAX_OFFSET;
+        float sum = 0;
+        for (int i = 0, rowCount = mLayout.getRowCount(); i < rowCount; i++) {
+            float scale = mLayout.getRowScale(i, waveY, 1);
+            float baseLineX = mItemBaseLineX[i] + offset*scale;
+            sum += baseLineX + mItemBaseLineY[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,97 @@
+package com.gjiazhe.wavesidebar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of {@link IndexLayout} for a side bar of 26 to 10,000 items: laying out the rows
+ * on a measure pass, resolving a touch to an item, and scaling every row for a frame of the wave.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexLayoutBenchmark {
+    private static final float ITEM_HEIGHT = 48;
+    private static final float AVAILABLE_HEIGHT = 1920;
+    private static final float WAVE_RADIUS = 4;
+
+    /**
+     * the number of touch positions cycled through, a power of 2
+     */
+    private static final int TOUCH_COUNT = 1024;
+
+    @Param({"26", "100", "1000", "10000"})
+    public int itemCount;
+
+    @Param({"false", "true"})
+    public boolean collapse;
+
+    private final IndexLayout mLayout = new IndexLayout();
+    private float[] mBaseLinesY;
+    private final float[] mTouchYs = new float[TOUCH_COUNT];
+    private int mTouch;
+
+    @Setup
+    public void setUp() {
+        mLayout.setWave(WAVE_RADIUS, IndexLayout.WAVE_CURVE_QUADRATIC);
+        mLayout.layoutRows(itemCount, null, ITEM_HEIGHT, AVAILABLE_HEIGHT, collapse);
+        mBaseLinesY = new float[itemCount];
+
+        // the same touches on every run
+        Random random = new Random(42);
+        for (int i = 0; i < TOUCH_COUNT; i++) {
+            mTouchYs[i] = random.nextFloat() * mLayout.getBarHeight();
+        }
+    }
+
+    private float nextTouchY() {
+        mTouch = (mTouch + 1) & (TOUCH_COUNT - 1);
+        return mTouchYs[mTouch];
+    }
+
+    /**
+     * what a measure pass of the side bar computes
+     */
+    @Benchmark
+    public float layout() {
+        mLayout.layoutRows(itemCount, null, ITEM_HEIGHT, AVAILABLE_HEIGHT, collapse);
+        mLayout.fillBaseLinesY(mBaseLinesY, ITEM_HEIGHT / 2, ITEM_HEIGHT);
+        return mLayout.getBarHeight();
+    }
+
+    /**
+     * what a touch event resolves
+     */
+    @Benchmark
+    public int getItemAt() {
+        return mLayout.getItemAt(nextTouchY());
+    }
+
+    /**
+     * the scale of every row for a frame of the wave at a touch
+     */
+    @Benchmark
+    public float getRowScale() {
+        float waveY = nextTouchY();
+        float sum = 0;
+        for (int row = 0, rowCount = mLayout.getRowCount(); row < rowCount; row++) {
+            sum += mLayout.getRowScale(row, waveY, 1);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,158 @@
+package com.gjiazhe.wavesidebar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of bucketing names into sections: a {@link Collator} at primary strength compared
+ * against the first name of each bucket, the way an alphabetic index usually does it,
+ * against one read of the {@link IndexTable} per name, and {@link IndexTable#build} of a
+ * sorted list.
+ * <p>
+ * The Chinese collator of the JDK only knows the pinyin order of GB2312 level 1, so its labels
+ * are a baseline of cost, not of correctness.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexTableBenchmark {
+    private static final String LATIN_BOUNDARIES = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String KANA_BOUNDARIES = "あかさたなはまやらわ";
+    private static final String PINYIN_BOUNDARIES = "啊芭擦搭蛾发噶哈击喀垃妈拿哦啪期然撒塌挖昔压匝";
+
+    private static final int MIN_NAME_LENGTH = 2;
+    private static final int MAX_NAME_LENGTH = 6;
+
+    private static final SectionIndexLoader.KeyExtractor<String> KEYS =
+            new SectionIndexLoader.KeyExtractor<String>() {
+                @Override
+                public CharSequence getKey(String item) {
+                    return item;
+                }
+            };
+
+    @Param({"en", "zh", "ja"})
+    public String language;
+
+    @Param({"10000", "1000000"})
+    public int nameCount;
+
+    private Collator mCollator;
+    private String[] mBoundaries;
+    private IndexTable mTable;
+    private String[] mNames;
+    private List<String> mSortedNames;
+
+    @Setup
+    public void setUp() {
+        Locale locale = new Locale(language);
+        mCollator = Collator.getInstance(locale);
+        mCollator.setStrength(Collator.PRIMARY);
+        String boundaries;
+        char firstChar;
+        char lastChar;
+        if (Locale.CHINESE.getLanguage().equals(language)) {
+            boundaries = PINYIN_BOUNDARIES;
+            firstChar = '一';
+            lastChar = '龥';
+        } else if (Locale.JAPANESE.getLanguage().equals(language)) {
+            boundaries = KANA_BOUNDARIES;
+            firstChar = 'ぁ';
+            lastChar = 'ゖ';
+        } else {
+            boundaries = LATIN_BOUNDARIES;
+            firstChar = 'a';
+            lastChar = 'z';
+        }
+        mBoundaries = new String[boundaries.length()];
+        for (int i = 0; i < mBoundaries.length; i++) {
+            mBoundaries[i] = boundaries.substring(i, i + 1);
+        }
+        mTable = IndexTable.forLocale(locale);
+
+        // the same names on every run
+        Random random = new Random(42);
+        char[] name = new char[MAX_NAME_LENGTH];
+        mNames = new String[nameCount];
+        for (int i = 0; i < nameCount; i++) {
+            int length = MIN_NAME_LENGTH + random.nextInt(MAX_NAME_LENGTH - MIN_NAME_LENGTH + 1);
+            for (int j = 0; j < length; j++) {
+                name[j] = (char) (firstChar + random.nextInt(lastChar - firstChar + 1));
+            }
+            mNames[i] = new String(name, 0, length);
+        }
+
+        mSortedNames = new ArrayList<>(Arrays.asList(mNames));
+        Collections.sort(mSortedNames, new Comparator<String>() {
+            @Override
+            public int compare(String lhs, String rhs) {
+                return mTable.bucketOf(lhs) - mTable.bucketOf(rhs);
+            }
+        });
+    }
+
+    /**
+     * @return the index of the last boundary not after the name, or the number of boundaries
+     * if the name comes before all of them
+     */
+    private int collatorBucketOf(String name) {
+        int low = 0;
+        int high = mBoundaries.length - 1;
+        int bucket = mBoundaries.length;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (mCollator.compare(mBoundaries[middle], name) <= 0) {
+                bucket = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return bucket;
+    }
+
+    @Benchmark
+    public long collator() {
+        long sum = 0;
+        for (String name : mNames) {
+            sum += collatorBucketOf(name);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long table() {
+        long sum = 0;
+        for (String name : mNames) {
+            sum += mTable.bucketOf(name);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public SectionIndex build() {
+        return mTable.build(mSortedNames, KEYS);
+    }
+}
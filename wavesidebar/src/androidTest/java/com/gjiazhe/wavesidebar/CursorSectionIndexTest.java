@@ -0,0 +1,152 @@
+package com.gjiazhe.wavesidebar;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(AndroidJUnit4.class)
+public class CursorSectionIndexTest {
+    private static final String SECTIONS_QUERY =
+            "SELECT label, COUNT(*) FROM contacts GROUP BY label ORDER BY label";
+
+    private static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private SQLiteDatabase db;
+    private String sql = SECTIONS_QUERY;
+    private CursorSectionIndex sectionIndex;
+
+    private CountDownLatch refreshed;
+    private RuntimeException failure;
+
+    @Before
+    public void setUp() {
+        db = SQLiteDatabase.create(null);
+        db.execSQL("CREATE TABLE contacts (label TEXT, name TEXT)");
+        insert("A", "Adam", "Amy");
+        insert("B", "Bob");
+        insert("D", "Dan", "Dave", "Dora");
+
+        sectionIndex = new CursorSectionIndex(DIRECT_EXECUTOR, new CursorSectionIndex.SectionQuery() {
+            @Override
+            public Cursor query() {
+                return db.rawQuery(sql, null);
+            }
+        });
+        sectionIndex.setCallback(new CursorSectionIndex.Callback() {
+            @Override
+            public void onSectionIndexChanged(CursorSectionIndex sectionIndex) {
+                refreshed.countDown();
+            }
+
+            @Override
+            public void onSectionIndexRefreshFailed(CursorSectionIndex sectionIndex, RuntimeException e) {
+                failure = e;
+                refreshed.countDown();
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        db.close();
+    }
+
+    private void insert(String label, String... names) {
+        for (String name : names) {
+            db.execSQL("INSERT INTO contacts VALUES (?, ?)", new Object[]{label, name});
+        }
+    }
+
+    private void refreshAndWait() throws InterruptedException {
+        refreshed = new CountDownLatch(1);
+        failure = null;
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                sectionIndex.refresh();
+            }
+        });
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void positionsAreTheCountsBefore() throws InterruptedException {
+        refreshAndWait();
+
+        assertNull(failure);
+        assertArrayEquals(new String[]{"A", "B", "D"}, sectionIndex.getSections());
+        assertEquals(0, sectionIndex.getPositionForSection(0));
+        assertEquals(2, sectionIndex.getPositionForSection(1));
+        assertEquals(3, sectionIndex.getPositionForSection(2));
+        assertEquals(6, sectionIndex.getItemCount());
+    }
+
+    @Test
+    public void aRefreshAppliesTheChangedCounts() throws InterruptedException {
+        refreshAndWait();
+        insert("B", "Bill");
+        db.execSQL("DELETE FROM contacts WHERE label = 'A'");
+
+        refreshAndWait();
+
+        assertNull(failure);
+        assertArrayEquals(new String[]{"B", "D"}, sectionIndex.getSections());
+        assertEquals(0, sectionIndex.getPositionForSection(0));
+        assertEquals(2, sectionIndex.getPositionForSection(1));
+        assertEquals(5, sectionIndex.getItemCount());
+    }
+
+    @Test
+    public void aNewSectionRebuildsTheIndex() throws InterruptedException {
+        refreshAndWait();
+        insert("C", "Carl");
+
+        refreshAndWait();
+
+        assertArrayEquals(new String[]{"A", "B", "C", "D"}, sectionIndex.getSections());
+        assertEquals(4, sectionIndex.getPositionForSection(3));
+        assertEquals(7, sectionIndex.getItemCount());
+    }
+
+    @Test
+    public void aFailedQueryIsReportedAndKeepsTheSections() throws InterruptedException {
+        refreshAndWait();
+        sql = "SELECT label, COUNT(*) FROM missing GROUP BY label";
+
+        refreshAndWait();
+
+        assertTrue(failure instanceof SQLiteException);
+        assertArrayEquals(new String[]{"A", "B", "D"}, sectionIndex.getSections());
+    }
+
+    @Test
+    public void aLabelReturnedTwiceIsReported() throws InterruptedException {
+        sql = "SELECT label, 1 FROM contacts ORDER BY label";
+
+        refreshAndWait();
+
+        assertTrue(failure instanceof IllegalArgumentException);
+        assertEquals(0, sectionIndex.getItemCount());
+    }
+}
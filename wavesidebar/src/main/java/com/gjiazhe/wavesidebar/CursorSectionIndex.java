@@ -0,0 +1,252 @@
+package com.gjiazhe.wavesidebar;
+
+import android.content.ContentResolver;
+import android.database.ContentObserver;
+import android.database.Cursor;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.widget.SectionIndexer;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.Executor;
+
+/**
+ * A section index for a list backed by a database table too large to be loaded, built from
+ * a single aggregated query which returns a row per section: its label in the first column
+ * and its number of items in the second one, in the order of the list.
+ * <pre>
+ * CursorSectionIndex index = new CursorSectionIndex(new CursorSectionIndex.SectionQuery() {
+ *     public Cursor query() {
+ *         return db.rawQuery("SELECT label, COUNT(*) FROM contacts GROUP BY label ORDER BY label", null);
+ *     }
+ * });
+ * index.attachTo(sideBar);
+ * index.observe(getContentResolver(), CONTACTS_URI);
+ * </pre>
+ * No row of the list is read: the start position of a section is the number of items
+ * before it, which the adapter maps to its row offset. The query runs on a background thread;
+ * on a refresh, only the counts which changed are applied to a {@link LiveSectionIndex},
+ * and the side bar gets new index items only if a section appeared or disappeared.
+ */
+public class CursorSectionIndex implements SectionIndexer {
+    private static final String TAG = "CursorSectionIndex";
+
+    private final SectionQuery mQuery;
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    private final LatestOnlyRunner mRunner;
+
+    private LiveSectionIndex mIndex = new LiveSectionIndex(new String[0], new int[0]);
+    private WaveSideBar mSideBar;
+    private Callback mCallback;
+
+    private ContentResolver mContentResolver;
+    private final ContentObserver mObserver = new ContentObserver(mMainHandler) {
+        @Override
+        public void onChange(boolean selfChange) {
+            refresh();
+        }
+    };
+
+    /**
+     * an index queried on the background thread shared with {@link SectionIndexLoader}
+     */
+    public CursorSectionIndex(SectionQuery query) {
+        this(SectionIndexLoader.getDefaultExecutor(), query);
+    }
+
+    public CursorSectionIndex(Executor executor, SectionQuery query) {
+        mRunner = new LatestOnlyRunner(executor, mMainHandler);
+        mQuery = query;
+    }
+
+    /**
+     * Set the sections as the index items of the side bar now, and again whenever they change.
+     *
+     * @param sideBar the side bar, or null to detach it
+     */
+    public void attachTo(WaveSideBar sideBar) {
+        mSideBar = sideBar;
+        mIndex.attachTo(sideBar);
+    }
+
+    /**
+     * @param callback notified on the main thread after the sections were refreshed
+     *                 or failed to be, or null to only log the failures
+     */
+    public void setCallback(Callback callback) {
+        mCallback = callback;
+    }
+
+    /**
+     * Refresh the sections now, and whenever the content at the uri changes.
+     * Call {@link #stopObserving()} when the list goes away.
+     */
+    public void observe(ContentResolver contentResolver, Uri uri) {
+        stopObserving();
+        mContentResolver = contentResolver;
+        contentResolver.registerContentObserver(uri, true, mObserver);
+        refresh();
+    }
+
+    public void stopObserving() {
+        if (mContentResolver != null) {
+            mContentResolver.unregisterContentObserver(mObserver);
+            mContentResolver = null;
+        }
+        mRunner.cancel();
+    }
+
+    /**
+     * Run the query again in the background. It must be called on the main thread.
+     * If the query fails, the sections stay as they are and the failure goes to the callback.
+     */
+    public void refresh() {
+        mRunner.run(new LatestOnlyRunner.Job<Sections>() {
+            @Override
+            public Sections run() {
+                return readSections(mQuery.query());
+            }
+        }, new LatestOnlyRunner.Receiver<Sections>() {
+            @Override
+            public void onResult(Sections sections) {
+                apply(sections);
+                if (mCallback != null) {
+                    mCallback.onSectionIndexChanged(CursorSectionIndex.this);
+                }
+            }
+
+            @Override
+            public void onFailure(RuntimeException e) {
+                if (mCallback != null) {
+                    mCallback.onSectionIndexRefreshFailed(CursorSectionIndex.this, e);
+                } else {
+                    Log.e(TAG, "failed to query the sections", e);
+                }
+            }
+        });
+    }
+
+    private static Sections readSections(Cursor cursor) {
+        Sections sections = new Sections();
+        if (cursor == null) {
+            return sections;
+        }
+        try {
+            int size = 0;
+            sections.labels = new String[Math.max(cursor.getCount(), 0)];
+            sections.counts = new int[sections.labels.length];
+            HashSet<String> seen = new HashSet<>();
+            while (cursor.moveToNext()) {
+                String label = cursor.isNull(0) ? "" : cursor.getString(0);
+                int count = cursor.getInt(1);
+                if (!seen.add(label)) {
+                    throw new IllegalArgumentException("section " + label + " is returned twice");
+                }
+                if (count < 0) {
+                    throw new IllegalArgumentException("the count of section " + label + " can't be negative");
+                }
+                if (size == sections.labels.length) {
+                    sections.labels = Arrays.copyOf(sections.labels, size * 2 + 1);
+                    sections.counts = Arrays.copyOf(sections.counts, size * 2 + 1);
+                }
+                sections.labels[size] = label;
+                sections.counts[size] = count;
+                size++;
+            }
+            sections.labels = Arrays.copyOf(sections.labels, size);
+            sections.counts = Arrays.copyOf(sections.counts, size);
+        } finally {
+            cursor.close();
+        }
+        return sections;
+    }
+
+    /**
+     * apply the changed counts to the current index if it has all the sections in the same
+     * order, or replace it otherwise
+     */
+    private void apply(Sections sections) {
+        int[] counts = new int[mIndex.getAllSectionCount()];
+        int lastSection = -1;
+        for (int i = 0; i < sections.labels.length; i++) {
+            int section = mIndex.getSectionIndex(sections.labels[i]);
+            if (section <= lastSection) {
+                // a new section, or the order changed
+                mIndex.attachTo(null);
+                mIndex = new LiveSectionIndex(sections.labels, sections.counts);
+                mIndex.attachTo(mSideBar);
+                return;
+            }
+            counts[section] = sections.counts[i];
+            lastSection = section;
+        }
+
+        // detached, so that the side bar gets the new index items once
+        mIndex.attachTo(null);
+        for (int section = 0; section < counts.length; section++) {
+            int delta = counts[section] - mIndex.getCount(section);
+            if (delta > 0) {
+                mIndex.insert(section, delta);
+            } else if (delta < 0) {
+                mIndex.remove(section, -delta);
+            }
+        }
+        mIndex.attachTo(mSideBar);
+    }
+
+    public int getItemCount() {
+        return mIndex.getItemCount();
+    }
+
+    /**
+     * @return the non-empty sections
+     */
+    @Override
+    public String[] getSections() {
+        return mIndex.getSections();
+    }
+
+    /**
+     * @return the number of items before the section, which is the row offset of its first item
+     */
+    @Override
+    public int getPositionForSection(int section) {
+        return mIndex.getPositionForSection(section);
+    }
+
+    @Override
+    public int getSectionForPosition(int position) {
+        return mIndex.getSectionForPosition(position);
+    }
+
+    /**
+     * the result of the query
+     */
+    private static class Sections {
+        String[] labels = new String[0];
+        int[] counts = new int[0];
+    }
+
+    public interface SectionQuery {
+        /**
+         * Called on the background thread.
+         *
+         * @return a row per section, with its label in the first column and its number
+         * of items in the second one, in the order of the list. It's closed after reading.
+         */
+        Cursor query();
+    }
+
+    public interface Callback {
+        void onSectionIndexChanged(CursorSectionIndex sectionIndex);
+
+        /**
+         * @param e the reason, such as an SQLiteException from the query, or an
+         *          IllegalArgumentException if a label is returned twice or a count is negative
+         */
+        void onSectionIndexRefreshFailed(CursorSectionIndex sectionIndex, RuntimeException e);
+    }
+}
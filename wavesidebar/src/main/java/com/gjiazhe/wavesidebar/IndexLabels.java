@@ -0,0 +1,25 @@
+package com.gjiazhe.wavesidebar;
+
+import java.util.Locale;
+
+/**
+ * Maps a key such as a contact name to the label of its section: the upper case
+ * Latin letter it starts with, diacritics removed, the pinyin initial of its first
+ * Chinese character, or {@link #OTHERS} for anything else.
+ */
+public final class IndexLabels {
+    public static final String OTHERS = "#";
+
+    private IndexLabels() {
+    }
+
+    /**
+     * The first call compiles the Chinese {@link IndexTable}, so make it on a background thread.
+     *
+     * @return the label of the section of the key, never null
+     */
+    public static String labelOf(CharSequence key) {
+        return IndexTable.forLocale(Locale.CHINESE).labelOf(key);
+    }
+
+}
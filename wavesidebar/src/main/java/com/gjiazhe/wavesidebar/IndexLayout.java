@@ -0,0 +1,230 @@
+package com.gjiazhe.wavesidebar;
+
+import java.util.Arrays;
+
+/**
+ * The math of {@link WaveSideBar} without the view: the rows the index items are laid out in,
+ * the height of each row, hit testing, and the scale of each row in the wave.
+ * It uses no Android class, so it can be run and measured on a plain JVM.
+ * All the distances are from the top of the bar, in pixels.
+ */
+final class IndexLayout {
+    static final int WAVE_CURVE_QUADRATIC = 0;
+    static final int WAVE_CURVE_LINEAR = 1;
+    static final int WAVE_CURVE_COSINE = 2;
+
+    /**
+     * number of samples per item in {@link #mWaveScales}
+     */
+    private static final int WAVE_SAMPLES_PER_ITEM = 16;
+
+    /**
+     * the rows, row i stands for the items from mRowFirstItems[i] to mRowFirstItems[i + 1] - 1
+     * and is a placeholder if there are several of them. Without collapsing, each row is an item.
+     */
+    private int[] mRowFirstItems = new int[1];
+    private int mRowCount = 0;
+
+    /**
+     * the top of each row, followed by the bottom of the last row,
+     * so that a position is resolved to its row by a binary search
+     */
+    private float[] mRowTops = new float[1];
+
+    /**
+     * scale factors of the wave sampled every 1/{@link #WAVE_SAMPLES_PER_ITEM} item
+     * from the finger, the rows out of it are at scale 0
+     */
+    private float[] mWaveScales = new float[0];
+
+    /**
+     * converts a distance in pixels to an index in {@link #mWaveScales}
+     */
+    private float mWaveSamplesPerPixel;
+
+    /**
+     * Lay out the items in rows fitting the available height. If the items are collapsed,
+     * the shown items are spread evenly, from the first to the last one, with a placeholder
+     * row for the hidden items between each two of them.
+     *
+     * @param weights the height of each item in lines, null or missing for 1 line
+     * @param itemHeight the height of a line
+     * @param collapse whether to collapse the items which don't fit
+     */
+    void layoutRows(int itemCount, float[] weights, float itemHeight, float availableHeight, boolean collapse) {
+        mWaveSamplesPerPixel = WAVE_SAMPLES_PER_ITEM / itemHeight;
+
+        int maxRows = (collapse && itemHeight > 0) ? (int) (availableHeight / itemHeight) : itemCount;
+        fillRows(itemCount, maxRows);
+        fillRowTops(weights, itemHeight);
+        // the items higher than a line may still not fit
+        while (collapse && mRowTops[mRowCount] > availableHeight && mRowCount > 3) {
+            fillRows(itemCount, mRowCount - 1);
+            fillRowTops(weights, itemHeight);
+        }
+    }
+
+    private void fillRows(int itemCount, int maxRows) {
+        if (mRowFirstItems.length < itemCount + 1) {
+            mRowFirstItems = new int[itemCount + 1];
+        }
+
+        if (itemCount <= maxRows || itemCount < 3) {
+            for (int i = 0; i <= itemCount; i++) {
+                mRowFirstItems[i] = i;
+            }
+            mRowCount = itemCount;
+            return;
+        }
+
+        // every other row is a placeholder, at least the first and the last items are shown
+        int shownCount = Math.max(2, (maxRows + 1) / 2);
+        int row = 0;
+        int shown = 0;
+        for (int k = 0; k < shownCount; k++) {
+            int next = (int) ((long) (k + 1) * (itemCount - 1) / (shownCount - 1));
+            mRowFirstItems[row++] = shown;
+            if (k < shownCount - 1 && next > shown + 1) {
+                mRowFirstItems[row++] = shown + 1;
+            }
+            shown = next;
+        }
+        mRowFirstItems[row] = itemCount;
+        mRowCount = row;
+    }
+
+    /**
+     * sum up the heights of the rows into {@link #mRowTops}, a placeholder row is 1 line high
+     */
+    private void fillRowTops(float[] weights, float itemHeight) {
+        if (mRowTops.length != mRowCount + 1) {
+            mRowTops = new float[mRowCount + 1];
+        }
+        float top = 0;
+        for (int row = 0; row < mRowCount; row++) {
+            mRowTops[row] = top;
+            int item = mRowFirstItems[row];
+            boolean weighted = weights != null && item < weights.length && !isPlaceholderRow(row);
+            top += (weighted ? weights[item] : 1) * itemHeight;
+        }
+        mRowTops[mRowCount] = top;
+    }
+
+    int getRowCount() {
+        return mRowCount;
+    }
+
+    /**
+     * @return the number of items the rows were laid out for
+     */
+    int getItemCount() {
+        return mRowFirstItems[mRowCount];
+    }
+
+    float getBarHeight() {
+        return mRowTops[mRowCount];
+    }
+
+    /**
+     * @param row the row, or the row count for the bottom of the last row
+     */
+    float getRowTop(int row) {
+        return mRowTops[row];
+    }
+
+    /**
+     * @return the item shown by the row, or the first one it stands for if it's a placeholder
+     */
+    int getFirstItemOfRow(int row) {
+        return mRowFirstItems[row];
+    }
+
+    boolean isPlaceholderRow(int row) {
+        return mRowFirstItems[row + 1] - mRowFirstItems[row] > 1;
+    }
+
+    /**
+     * @return the row at y, clamped to the rows, in O(log n) and without allocating
+     */
+    int getRowAt(float y) {
+        int row = Arrays.binarySearch(mRowTops, 0, mRowCount + 1, y);
+        if (row < 0) {
+            row = -row - 2;
+        }
+        return Math.max(0, Math.min(row, mRowCount - 1));
+    }
+
+    /**
+     * @return the row showing the item, or the placeholder row standing for it
+     */
+    int getRowOfItem(int index) {
+        int row = Arrays.binarySearch(mRowFirstItems, 0, mRowCount + 1, index);
+        return (row >= 0) ? row : -row - 2;
+    }
+
+    /**
+     * @return the item at y, clamped to the items. A placeholder row is split evenly
+     * between the items it stands for.
+     */
+    int getItemAt(float y) {
+        if (y <= 0) {
+            return 0;
+        }
+        if (y >= mRowTops[mRowCount]) {
+            return mRowFirstItems[mRowCount] - 1;
+        }
+        int row = getRowAt(y);
+
+        int first = mRowFirstItems[row];
+        int count = mRowFirstItems[row + 1] - first;
+        float fraction = (y - mRowTops[row]) / (mRowTops[row + 1] - mRowTops[row]);
+        return first + Math.min(count - 1, (int) (fraction * count));
+    }
+
+    /**
+     * fill the baseline Y of the text of each row, centered in its row
+     *
+     * @param firstBaseLineY the baseline Y of the first row if it's 1 line high
+     */
+    void fillBaseLinesY(float[] baseLinesY, float firstBaseLineY, float itemHeight) {
+        for (int row = 0; row < mRowCount; row++) {
+            baseLinesY[row] = firstBaseLineY + (mRowTops[row] + mRowTops[row + 1] - itemHeight) / 2;
+        }
+    }
+
+    /**
+     * sample the falloff curve of the wave into {@link #mWaveScales}
+     *
+     * @param radius the radius of the wave in items
+     * @param curve {@link #WAVE_CURVE_QUADRATIC}, {@link #WAVE_CURVE_LINEAR} or {@link #WAVE_CURVE_COSINE}
+     */
+    void setWave(float radius, int curve) {
+        int samples = (int) Math.ceil(radius * WAVE_SAMPLES_PER_ITEM);
+        mWaveScales = new float[samples];
+        for (int i = 0; i < samples; i++) {
+            // the distance from the finger, 0 at the finger and 1 at the wave radius
+            float x = (float) i / samples;
+            float scale;
+            switch (curve) {
+                case WAVE_CURVE_LINEAR:  scale = 1 - x; break;
+                case WAVE_CURVE_COSINE:  scale = (float) (1 + Math.cos(Math.PI * x)) / 2; break;
+                default:                 scale = 1 - x*x; break;
+            }
+            mWaveScales[i] = scale;
+        }
+    }
+
+    /**
+     * @param waveY the center of the wave
+     * @param amplitude the height of the wave from 0 to 1
+     * @return the scale factor of the row, from 0 to 1
+     */
+    float getRowScale(int row, float waveY, float amplitude) {
+        if (amplitude <= 0) {
+            return 0;
+        }
+        float distance = Math.abs(waveY - (mRowTops[row] + mRowTops[row + 1]) / 2);
+        int sample = (int) (distance * mWaveSamplesPerPixel);
+        return (sample < mWaveScales.length) ? mWaveScales[sample] * amplitude : 0;
+    }
+}
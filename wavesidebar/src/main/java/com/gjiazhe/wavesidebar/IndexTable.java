@@ -0,0 +1,219 @@
+package com.gjiazhe.wavesidebar;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A precompiled table from every UTF-16 char to the bucket of the section it starts,
+ * so that bucketing a key is a single array read instead of a collation.
+ * <ul>
+ * <li>Latin: A to Z, letters with diacritics are folded to their base letter.</li>
+ * <li>Chinese: the Latin buckets, Chinese characters go to their pinyin initial.</li>
+ * <li>Japanese: the kana rows あ to わ, then the Latin buckets.</li>
+ * </ul>
+ * Anything else goes to the last bucket, {@link IndexLabels#OTHERS}.
+ */
+public class IndexTable {
+    private static final String[] LATIN_BUCKETS = {"A", "B", "C", "D", "E", "F", "G", "H", "I",
+            "J", "K", "L", "M", "N", "O", "P", "Q", "R", "S", "T", "U", "V", "W", "X", "Y", "Z"};
+
+    private static final String[] KANA_BUCKETS = {"あ", "か", "さ", "た", "な", "は", "ま", "や", "ら", "わ"};
+
+    /**
+     * the first hiragana of each row in {@link #KANA_BUCKETS}, from ぁ to ゎ
+     */
+    private static final char[] KANA_ROW_STARTS = {'ぁ', 'か', 'さ', 'た', 'な',
+            'は', 'ま', 'ゃ', 'ら', 'ゎ'};
+    private static final char LAST_HIRAGANA = 'ゖ';
+    private static final int KATAKANA_OFFSET = 'ァ' - 'ぁ';
+
+    private static IndexTable sLatin;
+    private static IndexTable sChinese;
+    private static IndexTable sJapanese;
+
+    private final String[] mBuckets;
+
+    /**
+     * the bucket of each char, the last bucket is {@link IndexLabels#OTHERS}
+     */
+    private final byte[] mTable = new byte[Character.MAX_VALUE + 1];
+
+    private IndexTable(String[] buckets) {
+        mBuckets = Arrays.copyOf(buckets, buckets.length + 1);
+        mBuckets[buckets.length] = IndexLabels.OTHERS;
+        Arrays.fill(mTable, (byte) buckets.length);
+    }
+
+    /**
+     * @return the table for the language of the locale. It's compiled on the first call,
+     * which takes a few milliseconds, so make it on a background thread
+     * such as the one of {@link SectionIndexLoader}.
+     */
+    public static synchronized IndexTable forLocale(Locale locale) {
+        String language = locale.getLanguage();
+        if (Locale.CHINESE.getLanguage().equals(language)) {
+            if (sChinese == null) {
+                sChinese = compileChinese();
+            }
+            return sChinese;
+        }
+        if (Locale.JAPANESE.getLanguage().equals(language)) {
+            if (sJapanese == null) {
+                sJapanese = compileJapanese();
+            }
+            return sJapanese;
+        }
+        if (sLatin == null) {
+            sLatin = new IndexTable(LATIN_BUCKETS);
+            sLatin.putLatin(0);
+        }
+        return sLatin;
+    }
+
+    private static IndexTable compileChinese() {
+        IndexTable table = new IndexTable(LATIN_BUCKETS);
+        table.putLatin(0);
+        // the buckets of the initials are the Latin ones
+        String initials = PinyinInitials.INITIALS;
+        for (int i = 0, length = initials.length(); i < length; i++) {
+            char initial = initials.charAt(i);
+            if (initial != PinyinInitials.NONE) {
+                table.mTable[PinyinInitials.FIRST + i] = (byte) (initial - 'A');
+            }
+        }
+        return table;
+    }
+
+    private static IndexTable compileJapanese() {
+        String[] buckets = new String[KANA_BUCKETS.length + LATIN_BUCKETS.length];
+        System.arraycopy(KANA_BUCKETS, 0, buckets, 0, KANA_BUCKETS.length);
+        System.arraycopy(LATIN_BUCKETS, 0, buckets, KANA_BUCKETS.length, LATIN_BUCKETS.length);
+        IndexTable table = new IndexTable(buckets);
+        table.putLatin(KANA_BUCKETS.length);
+
+        int row = 0;
+        for (char c = KANA_ROW_STARTS[0]; c <= LAST_HIRAGANA; c++) {
+            while (row + 1 < KANA_ROW_STARTS.length && c >= KANA_ROW_STARTS[row + 1]) {
+                row++;
+            }
+            table.mTable[c] = (byte) row;
+            table.mTable[c + KATAKANA_OFFSET] = (byte) row;
+        }
+        // ゔ is in the row of う, and the small ゕ and ゖ in the row of か
+        table.mTable['ゔ'] = table.mTable['ゔ' + KATAKANA_OFFSET] = 0;
+        table.mTable['ゕ'] = table.mTable['ゕ' + KATAKANA_OFFSET] = 1;
+        table.mTable['ゖ'] = table.mTable['ゖ' + KATAKANA_OFFSET] = 1;
+        // ヷ, ヸ, ヹ and ヺ are in the row of わ
+        for (char c = 'ヷ'; c <= 'ヺ'; c++) {
+            table.mTable[c] = (byte) (KANA_BUCKETS.length - 1);
+        }
+        return table;
+    }
+
+    /**
+     * map the Latin letters, with or without diacritics, to the Latin buckets
+     *
+     * @param first the bucket of A
+     */
+    private void putLatin(int first) {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            mTable[c] = (byte) (first + c - 'A');
+            mTable[Character.toLowerCase(c)] = (byte) (first + c - 'A');
+        }
+        // Latin-1 Supplement, Latin Extended-A and B, and Latin Extended Additional
+        foldLatin(first, 'À', 'ɏ');
+        foldLatin(first, 'Ḁ', 'ỿ');
+        // the letters without a canonical decomposition
+        putLetter(first, "ÆæÅå", 'A');
+        putLetter(first, "ÐðĐđ", 'D');
+        putLetter(first, "Łł", 'L');
+        putLetter(first, "ØøŒœ", 'O');
+        putLetter(first, "ß", 'S');
+        putLetter(first, "Þþ", 'T');
+    }
+
+    private void foldLatin(int first, char from, char to) {
+        for (char c = from; c <= to; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            char base = Character.toUpperCase(decomposed.charAt(0));
+            if (base >= 'A' && base <= 'Z') {
+                mTable[c] = (byte) (first + base - 'A');
+            }
+        }
+    }
+
+    private void putLetter(int first, String chars, char letter) {
+        for (int i = 0; i < chars.length(); i++) {
+            mTable[chars.charAt(i)] = (byte) (first + letter - 'A');
+        }
+    }
+
+    /**
+     * @return all the buckets in order, {@link IndexLabels#OTHERS} is the last one
+     */
+    public String[] getBuckets() {
+        return Arrays.copyOf(mBuckets, mBuckets.length);
+    }
+
+    /**
+     * @return the index in {@link #getBuckets()} of the bucket of the key
+     */
+    public int bucketOf(CharSequence key) {
+        if (key == null || key.length() == 0) {
+            return mBuckets.length - 1;
+        }
+        return mTable[key.charAt(0)];
+    }
+
+    /**
+     * @return the label of the bucket of the key, never null
+     */
+    public String labelOf(CharSequence key) {
+        return mBuckets[bucketOf(key)];
+    }
+
+    /**
+     * Bucket all the items and build the sections of the non-empty buckets,
+     * whose labels can be set to {@link WaveSideBar#setIndexItems(String...)}.
+     *
+     * @param items the items, sorted in the order of the buckets
+     * @param keyExtractor gets the key of an item, such as its name
+     * @throws IllegalArgumentException if the items are not sorted in the order of the buckets
+     */
+    public <T> SectionIndex build(List<T> items, SectionIndexLoader.KeyExtractor<T> keyExtractor) {
+        int[] counts = new int[mBuckets.length];
+        int lastBucket = 0;
+        for (int position = 0, size = items.size(); position < size; position++) {
+            int bucket = bucketOf(keyExtractor.getKey(items.get(position)));
+            if (bucket < lastBucket) {
+                throw new IllegalArgumentException(
+                        "the items must be sorted in the order of the buckets, but the item at "
+                                + position + " (" + mBuckets[bucket] + ") comes after " + mBuckets[lastBucket]);
+            }
+            counts[bucket]++;
+            lastBucket = bucket;
+        }
+
+        int sectionCount = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                sectionCount++;
+            }
+        }
+        String[] sections = new String[sectionCount];
+        int[] sectionStartPositions = new int[sectionCount];
+        int section = 0;
+        int position = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] > 0) {
+                sections[section] = mBuckets[bucket];
+                sectionStartPositions[section] = position;
+                position += counts[bucket];
+                section++;
+            }
+        }
+        return new SectionIndex(sections, sectionStartPositions, items.size());
+    }
+}
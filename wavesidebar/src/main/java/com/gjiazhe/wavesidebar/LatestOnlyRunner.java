@@ -0,0 +1,99 @@
+package com.gjiazhe.wavesidebar;
+
+import android.os.Handler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs jobs on a background executor and publishes their results on the main thread,
+ * where the result of a job never replaces the one of a job run after it. A job which
+ * throws is reported on the main thread too, instead of killing the process.
+ * <p>
+ * The plumbing of {@link SectionIndexLoader} and {@link CursorSectionIndex}.
+ */
+final class LatestOnlyRunner {
+    private final Executor mExecutor;
+    private final Handler mMainHandler;
+
+    /**
+     * increased by every {@link #run} and {@link #cancel()}, the jobs of older generations
+     * are skipped and their results dropped
+     */
+    private final AtomicInteger mGeneration = new AtomicInteger();
+
+    /**
+     * @param mainHandler a handler of the main thread, which the results are posted to
+     */
+    LatestOnlyRunner(Executor executor, Handler mainHandler) {
+        mExecutor = executor;
+        mMainHandler = mainHandler;
+    }
+
+    /**
+     * Run the job in the background, and drop the result of the previous one if it's
+     * not published yet. It must be called on the main thread.
+     */
+    <T> void run(final Job<T> job, final Receiver<T> receiver) {
+        final int generation = mGeneration.incrementAndGet();
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (generation != mGeneration.get()) {
+                    return;
+                }
+                T result = null;
+                RuntimeException failure = null;
+                try {
+                    result = job.run();
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+                publish(generation, result, failure, receiver);
+            }
+        });
+    }
+
+    private <T> void publish(final int generation, final T result, final RuntimeException failure,
+                             final Receiver<T> receiver) {
+        mMainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (generation != mGeneration.get()) {
+                    return;
+                }
+                if (failure != null) {
+                    receiver.onFailure(failure);
+                } else {
+                    receiver.onResult(result);
+                }
+            }
+        });
+    }
+
+    /**
+     * Drop the result of the pending job, if there is one.
+     */
+    void cancel() {
+        mGeneration.incrementAndGet();
+    }
+
+    interface Job<T> {
+        /**
+         * Called on the background thread.
+         */
+        T run();
+    }
+
+    interface Receiver<T> {
+        /**
+         * Called on the main thread, if no other job was run or canceled since.
+         */
+        void onResult(T result);
+
+        /**
+         * Called on the main thread instead of {@link #onResult}, if the job threw.
+         */
+        void onFailure(RuntimeException e);
+    }
+}
@@ -0,0 +1,282 @@
+package com.gjiazhe.wavesidebar;
+
+import android.widget.SectionIndexer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * A section index for a list which keeps changing. The size of each section is kept in a
+ * Fenwick tree, so inserting, removing or moving items and looking up positions all take
+ * O(log n) instead of rebuilding the index.
+ * <p>
+ * Only the non-empty sections are visible, and {@link #getSections()},
+ * {@link #getPositionForSection(int)} and {@link #getSectionForPosition(int)} work on them.
+ * An attached {@link WaveSideBar} gets new index items only when a section becomes empty
+ * or non-empty.
+ * <p>
+ * The updates mirror the ones of a RecyclerView ListUpdateCallback, with the section of
+ * the items given instead of their position, since a new item's position doesn't tell
+ * which section it joins.
+ */
+public class LiveSectionIndex implements SectionIndexer {
+    /**
+     * labels of all the sections, empty or not
+     */
+    private final String[] mSections;
+    private final HashMap<String, Integer> mSectionsByLabel;
+
+    private final int[] mCounts;
+
+    /**
+     * 1-based Fenwick tree over {@link #mCounts}
+     */
+    private final int[] mTree;
+
+    private int mItemCount;
+
+    /**
+     * the non-empty sections, and the index of each section among them
+     * or of the next non-empty one
+     */
+    private String[] mVisibleSections;
+    private int[] mVisibleToSection;
+    private int[] mSectionToVisible;
+
+    private WaveSideBar mSideBar;
+
+    /**
+     * @param sections the labels of all the sections, in the order of the list
+     * @param sectionCounts the number of items in each section
+     */
+    public LiveSectionIndex(String[] sections, int[] sectionCounts) {
+        if (sections.length != sectionCounts.length) {
+            throw new IllegalArgumentException("every section must have a count");
+        }
+        mSections = Arrays.copyOf(sections, sections.length);
+        mSectionsByLabel = new HashMap<>(sections.length * 2);
+        for (int i = 0; i < sections.length; i++) {
+            mSectionsByLabel.put(sections[i], i);
+        }
+
+        mCounts = new int[sections.length];
+        mTree = new int[sections.length + 1];
+        for (int i = 0; i < sections.length; i++) {
+            if (sectionCounts[i] < 0) {
+                throw new IllegalArgumentException("the count of a section can't be negative");
+            }
+            mCounts[i] = sectionCounts[i];
+            mItemCount += sectionCounts[i];
+            // build the tree in O(n)
+            mTree[i + 1] += sectionCounts[i];
+            int parent = (i + 1) + ((i + 1) & -(i + 1));
+            if (parent <= sections.length) {
+                mTree[parent] += mTree[i + 1];
+            }
+        }
+        updateVisibleSections();
+    }
+
+    /**
+     * @param sectionIndex the sections to start with
+     */
+    public LiveSectionIndex(SectionIndex sectionIndex) {
+        this(sectionIndex.getSections(), countsOf(sectionIndex));
+    }
+
+    private static int[] countsOf(SectionIndex sectionIndex) {
+        int[] startPositions = sectionIndex.getSectionStartPositions();
+        int[] counts = new int[startPositions.length];
+        for (int i = 0; i < startPositions.length; i++) {
+            int end = (i + 1 < startPositions.length) ? startPositions[i + 1] : sectionIndex.getItemCount();
+            counts[i] = end - startPositions[i];
+        }
+        return counts;
+    }
+
+    /**
+     * Set the visible sections as the index items of the side bar now,
+     * and again whenever they change.
+     *
+     * @param sideBar the side bar, or null to detach it
+     */
+    public void attachTo(WaveSideBar sideBar) {
+        mSideBar = sideBar;
+        if (sideBar != null) {
+            // the positions change with every update, they are looked up in this index instead
+            sideBar.setSectionStartPositions(null);
+            sideBar.setIndexItems(mVisibleSections);
+        }
+    }
+
+    /**
+     * @param section the index of the section in all the sections
+     * @param count the number of items inserted into it
+     */
+    public void insert(int section, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("the count can't be negative");
+        }
+        update(section, count);
+    }
+
+    /**
+     * @param section the index of the section in all the sections
+     * @param count the number of items removed from it
+     */
+    public void remove(int section, int count) {
+        if (count < 0 || count > mCounts[section]) {
+            throw new IllegalArgumentException(
+                    "can't remove " + count + " items from a section of " + mCounts[section]);
+        }
+        update(section, -count);
+    }
+
+    /**
+     * Move an item from a section to another one.
+     */
+    public void move(int fromSection, int toSection) {
+        if (fromSection == toSection) {
+            return;
+        }
+        remove(fromSection, 1);
+        insert(toSection, 1);
+    }
+
+    /**
+     * Remove the items in a range of positions, which may span several sections.
+     */
+    public void removeRange(int position, int count) {
+        if (position < 0 || count < 0 || position + count > mItemCount) {
+            throw new IndexOutOfBoundsException(
+                    "can't remove " + count + " items at " + position + " from " + mItemCount);
+        }
+        while (count > 0) {
+            int section = findSection(position);
+            int sectionEnd = prefixSum(section + 1);
+            int removed = Math.min(count, sectionEnd - position);
+            update(section, -removed);
+            count -= removed;
+        }
+    }
+
+    /**
+     * @return the index in all the sections of the section with the label, or -1
+     */
+    public int getSectionIndex(String label) {
+        Integer section = mSectionsByLabel.get(label);
+        return section == null ? -1 : section;
+    }
+
+    public int getItemCount() {
+        return mItemCount;
+    }
+
+    /**
+     * @return the number of all the sections, empty or not
+     */
+    int getAllSectionCount() {
+        return mCounts.length;
+    }
+
+    /**
+     * @param section the index of the section in all the sections
+     */
+    int getCount(int section) {
+        return mCounts[section];
+    }
+
+    /**
+     * @return the non-empty sections
+     */
+    @Override
+    public String[] getSections() {
+        return mVisibleSections;
+    }
+
+    /**
+     * @param section the index of the section in the non-empty sections
+     */
+    @Override
+    public int getPositionForSection(int section) {
+        return prefixSum(mVisibleToSection[section]);
+    }
+
+    /**
+     * @return the index of the section of the position in the non-empty sections
+     */
+    @Override
+    public int getSectionForPosition(int position) {
+        if (mVisibleSections.length == 0) {
+            return 0;
+        }
+        position = Math.max(0, Math.min(position, mItemCount - 1));
+        return mSectionToVisible[findSection(position)];
+    }
+
+    private void update(int section, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        boolean wasEmpty = mCounts[section] == 0;
+        mCounts[section] += delta;
+        mItemCount += delta;
+        for (int i = section + 1; i < mTree.length; i += i & -i) {
+            mTree[i] += delta;
+        }
+        if (wasEmpty != (mCounts[section] == 0)) {
+            updateVisibleSections();
+            if (mSideBar != null) {
+                mSideBar.setIndexItems(mVisibleSections);
+            }
+        }
+    }
+
+    /**
+     * @return the number of items in the sections before the section
+     */
+    private int prefixSum(int section) {
+        int sum = 0;
+        for (int i = section; i > 0; i -= i & -i) {
+            sum += mTree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return the index of the non-empty section containing the position, in O(log n)
+     */
+    private int findSection(int position) {
+        int section = 0;
+        int remaining = position;
+        for (int step = Integer.highestOneBit(mTree.length - 1); step > 0; step >>= 1) {
+            int next = section + step;
+            if (next < mTree.length && mTree[next] <= remaining) {
+                section = next;
+                remaining -= mTree[next];
+            }
+        }
+        return section;
+    }
+
+    private void updateVisibleSections() {
+        int visibleCount = 0;
+        for (int count : mCounts) {
+            if (count > 0) {
+                visibleCount++;
+            }
+        }
+        mVisibleSections = new String[visibleCount];
+        mVisibleToSection = new int[visibleCount];
+        mSectionToVisible = new int[mCounts.length];
+        int visible = 0;
+        for (int section = 0; section < mCounts.length; section++) {
+            mSectionToVisible[section] = Math.min(visible, Math.max(visibleCount - 1, 0));
+            if (mCounts[section] > 0) {
+                mVisibleSections[visible] = mSections[section];
+                mVisibleToSection[visible] = section;
+                visible++;
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.gjiazhe.wavesidebar;
+
+/**
+ * Records the metrics of a {@link WaveSideBar} on the main thread into primitive fields and
+ * ring buffers allocated once, so recording takes no lock and allocates nothing.
+ * Only {@link #snapshot()} allocates.
+ */
+final class MetricsRecorder {
+    /**
+     * the number of draws and gestures kept in the ring buffers
+     */
+    private static final int RING_SIZE = 64;
+
+    private long mDrawCount;
+    private long mTotalDrawTime;
+    private long mMaxDrawTime;
+    private final int[] mDrawTimeHistogram = new int[WaveSideBarMetrics.getDrawTimeBucketCount()];
+    private final long[] mDrawTimes = new long[RING_SIZE];
+
+    private long mMeasureCount;
+    private long mTotalMeasureTime;
+    private long mMaxMeasureTime;
+
+    private boolean mInGesture;
+    private int mGestureDispatches;
+    private int mGestureInvalidations;
+    private long mGestureCount;
+    private final int[] mGestureDispatchCounts = new int[RING_SIZE];
+    private final int[] mGestureInvalidationCounts = new int[RING_SIZE];
+
+    void recordDraw(long drawTime) {
+        mDrawTimes[(int) (mDrawCount % RING_SIZE)] = drawTime;
+        mDrawCount++;
+        mTotalDrawTime += drawTime;
+        mMaxDrawTime = Math.max(mMaxDrawTime, drawTime);
+        mDrawTimeHistogram[WaveSideBarMetrics.getDrawTimeBucket(drawTime)]++;
+    }
+
+    void recordMeasure(long measureTime) {
+        mMeasureCount++;
+        mTotalMeasureTime += measureTime;
+        mMaxMeasureTime = Math.max(mMaxMeasureTime, measureTime);
+    }
+
+    void startGesture() {
+        endGesture();
+        mInGesture = true;
+    }
+
+    boolean isInGesture() {
+        return mInGesture;
+    }
+
+    /**
+     * @return true if a gesture was ended
+     */
+    boolean endGesture() {
+        if (!mInGesture) {
+            return false;
+        }
+        int slot = (int) (mGestureCount % RING_SIZE);
+        mGestureDispatchCounts[slot] = mGestureDispatches;
+        mGestureInvalidationCounts[slot] = mGestureInvalidations;
+        mGestureCount++;
+        mGestureDispatches = 0;
+        mGestureInvalidations = 0;
+        mInGesture = false;
+        return true;
+    }
+
+    void recordDispatch() {
+        mGestureDispatches++;
+    }
+
+    void recordInvalidation() {
+        mGestureInvalidations++;
+    }
+
+    WaveSideBarMetrics snapshot() {
+        WaveSideBarMetrics metrics = new WaveSideBarMetrics();
+        metrics.mDrawCount = mDrawCount;
+        metrics.mTotalDrawTime = mTotalDrawTime;
+        metrics.mMaxDrawTime = mMaxDrawTime;
+        metrics.mDrawTimeHistogram = mDrawTimeHistogram.clone();
+        metrics.mRecentDrawTimes = unroll(mDrawTimes, mDrawCount);
+
+        metrics.mMeasureCount = mMeasureCount;
+        metrics.mTotalMeasureTime = mTotalMeasureTime;
+        metrics.mMaxMeasureTime = mMaxMeasureTime;
+
+        metrics.mGestureCount = mGestureCount;
+        metrics.mRecentGestureDispatches = unroll(mGestureDispatchCounts, mGestureCount);
+        metrics.mRecentGestureInvalidations = unroll(mGestureInvalidationCounts, mGestureCount);
+        return metrics;
+    }
+
+    /**
+     * @return the values in the ring buffer, the oldest first
+     */
+    private static long[] unroll(long[] ring, long count) {
+        int size = (int) Math.min(count, ring.length);
+        long[] values = new long[size];
+        int start = (int) ((count - size) % ring.length);
+        for (int i = 0; i < size; i++) {
+            values[i] = ring[(start + i) % ring.length];
+        }
+        return values;
+    }
+
+    private static int[] unroll(int[] ring, long count) {
+        int size = (int) Math.min(count, ring.length);
+        int[] values = new int[size];
+        int start = (int) ((count - size) % ring.length);
+        for (int i = 0; i < size; i++) {
+            values[i] = ring[(start + i) % ring.length];
+        }
+        return values;
+    }
+}
@@ -0,0 +1,217 @@
+package com.gjiazhe.wavesidebar;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A prefix trie over the keys of a sorted list, built once, which gives the position of the
+ * first item starting with a prefix and the next-letter sub-sections of a prefix ("Sa", "Se",
+ * "Sh" for "S") in O(prefix length), without scanning the list. The letters are compared
+ * case-insensitively.
+ * <p>
+ * The nodes are kept in a few arrays, the children of a node next to each other, and each
+ * node stores the range of positions of its items. The trie stops at a depth, 3 by default,
+ * since a sub-section of a few hundred items is already within a few screens.
+ * <p>
+ * As a {@link WaveSideBar.SubIndexProvider}, it drills down into the index item held by the
+ * finger, if the index item is a prefix of the keys, such as a Latin letter:
+ * <pre>
+ * sideBar.setSubIndexProvider(new PrefixTrie(contacts, keyExtractor));
+ * </pre>
+ */
+public class PrefixTrie implements WaveSideBar.SubIndexProvider {
+    private final static int DEFAULT_MAX_DEPTH = 3;
+
+    /**
+     * the last char of the prefix of each node in upper case, the root has none
+     */
+    private char[] mChars = new char[64];
+
+    /**
+     * the items of each node are at the positions from mStarts[node] to mEnds[node] - 1
+     */
+    private int[] mStarts = new int[64];
+    private int[] mEnds = new int[64];
+
+    /**
+     * the children of each node, in the order of the list
+     */
+    private int[] mFirstChildren = new int[64];
+    private int[] mChildCounts = new int[64];
+
+    private int mNodeCount = 0;
+
+    public <T> PrefixTrie(List<T> items, SectionIndexLoader.KeyExtractor<T> keyExtractor) {
+        this(items, keyExtractor, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * @param items the items, sorted by key as by {@link String#CASE_INSENSITIVE_ORDER}
+     * @param keyExtractor gets the key of an item, such as its name
+     * @param maxDepth the length of the longest prefix in the trie
+     * @throws IllegalArgumentException if the items are not sorted by key up to the depth
+     */
+    public <T> PrefixTrie(List<T> items, SectionIndexLoader.KeyExtractor<T> keyExtractor, int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("the depth must be at least 1");
+        }
+        CharSequence[] keys = new CharSequence[items.size()];
+        for (int position = 0; position < keys.length; position++) {
+            CharSequence key = keyExtractor.getKey(items.get(position));
+            keys[position] = (key == null) ? "" : key;
+        }
+
+        addNode('\0', 0, keys.length);
+        // breadth first, so that the children of each node are next to each other
+        int levelStart = 0;
+        int levelEnd = 1;
+        for (int depth = 0; depth < maxDepth && levelStart < levelEnd; depth++) {
+            for (int node = levelStart; node < levelEnd; node++) {
+                addChildren(node, depth, keys);
+            }
+            levelStart = levelEnd;
+            levelEnd = mNodeCount;
+        }
+
+        mChars = Arrays.copyOf(mChars, mNodeCount);
+        mStarts = Arrays.copyOf(mStarts, mNodeCount);
+        mEnds = Arrays.copyOf(mEnds, mNodeCount);
+        mFirstChildren = Arrays.copyOf(mFirstChildren, mNodeCount);
+        mChildCounts = Arrays.copyOf(mChildCounts, mNodeCount);
+    }
+
+    private void addChildren(int node, int depth, CharSequence[] keys) {
+        int end = mEnds[node];
+        int firstChild = mNodeCount;
+        mFirstChildren[node] = firstChild;
+
+        // the keys as long as the prefix come first
+        int position = mStarts[node];
+        while (position < end && keys[position].length() <= depth) {
+            position++;
+        }
+        while (position < end) {
+            if (keys[position].length() <= depth) {
+                throw new IllegalArgumentException("the items must be sorted by key, but the item at "
+                        + position + " (" + keys[position] + ") comes after longer keys");
+            }
+            char c = fold(keys[position].charAt(depth));
+            // the children come in the order of the list, which is the order of the sub-items
+            if (mNodeCount > firstChild
+                    && Character.toLowerCase(c) <= Character.toLowerCase(mChars[mNodeCount - 1])) {
+                throw new IllegalArgumentException("the items must be sorted by key, but the item at "
+                        + position + " (" + keys[position] + ") comes after " + keys[position - 1]);
+            }
+            int start = position;
+            position++;
+            while (position < end && keys[position].length() > depth
+                    && fold(keys[position].charAt(depth)) == c) {
+                position++;
+            }
+            addNode(c, start, position);
+        }
+        mChildCounts[node] = mNodeCount - firstChild;
+    }
+
+    private int addNode(char c, int start, int end) {
+        if (mNodeCount == mChars.length) {
+            int capacity = mNodeCount * 2;
+            mChars = Arrays.copyOf(mChars, capacity);
+            mStarts = Arrays.copyOf(mStarts, capacity);
+            mEnds = Arrays.copyOf(mEnds, capacity);
+            mFirstChildren = Arrays.copyOf(mFirstChildren, capacity);
+            mChildCounts = Arrays.copyOf(mChildCounts, capacity);
+        }
+        int node = mNodeCount++;
+        mChars[node] = c;
+        mStarts[node] = start;
+        mEnds[node] = end;
+        return node;
+    }
+
+    private static char fold(char c) {
+        return Character.toUpperCase(c);
+    }
+
+    /**
+     * @return the node of the prefix, or -1 if no key starts with it or it's longer than the trie
+     */
+    private int findNode(CharSequence prefix) {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node != -1; i++) {
+            node = findChild(node, fold(prefix.charAt(i)));
+        }
+        return node;
+    }
+
+    private int findChild(int node, char c) {
+        int firstChild = mFirstChildren[node];
+        for (int child = firstChild, end = firstChild + mChildCounts[node]; child < end; child++) {
+            if (mChars[child] == c) {
+                return child;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the position of the first item starting with the prefix, or -1 if there isn't one
+     */
+    public int getPositionForPrefix(CharSequence prefix) {
+        int node = findNode(prefix);
+        return (node == -1) ? -1 : mStarts[node];
+    }
+
+    /**
+     * @return the number of items starting with the prefix
+     */
+    public int getCountForPrefix(CharSequence prefix) {
+        int node = findNode(prefix);
+        return (node == -1) ? 0 : mEnds[node] - mStarts[node];
+    }
+
+    /**
+     * @return the sub-sections of the prefix one letter longer, such as "Sa", "Se" and "Sh"
+     * for "S", with the position of their first item in the whole list,
+     * or null if the prefix isn't in the trie or has no sub-section
+     */
+    public SectionIndex getChildren(CharSequence prefix) {
+        StringBuilder label = new StringBuilder(prefix.length() + 1);
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node != -1; i++) {
+            node = findChild(node, fold(prefix.charAt(i)));
+            if (node != -1) {
+                label.append(i == 0 ? mChars[node] : Character.toLowerCase(mChars[node]));
+            }
+        }
+        if (node == -1 || mChildCounts[node] == 0) {
+            return null;
+        }
+
+        int childCount = mChildCounts[node];
+        String[] sections = new String[childCount];
+        int[] startPositions = new int[childCount];
+        int prefixLength = label.length();
+        for (int i = 0; i < childCount; i++) {
+            int child = mFirstChildren[node] + i;
+            label.setLength(prefixLength);
+            label.append(prefixLength == 0 ? mChars[child] : Character.toLowerCase(mChars[child]));
+            sections[i] = label.toString();
+            startPositions[i] = mStarts[child];
+        }
+        return new SectionIndex(sections, startPositions, mEnds[node]);
+    }
+
+    /**
+     * @return the sub-sections of the index item, or null if it has fewer than two of them
+     */
+    @Override
+    public SectionIndex getSubIndex(int index, String indexItem) {
+        SectionIndex children = getChildren(indexItem);
+        return (children == null || children.getSections().length < 2) ? null : children;
+    }
+
+    public int getItemCount() {
+        return mEnds[0];
+    }
+}
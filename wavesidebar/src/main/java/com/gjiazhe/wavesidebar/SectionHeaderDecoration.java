@@ -0,0 +1,241 @@
+package com.gjiazhe.wavesidebar;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.support.v4.view.ViewCompat;
+import android.support.v7.widget.RecyclerView;
+import android.util.TypedValue;
+import android.view.View;
+import android.widget.SectionIndexer;
+
+import java.util.Arrays;
+
+/**
+ * Draws a header above the first item of each section of a vertical RecyclerView, with the
+ * same labels as the {@link WaveSideBar}, and pins the header of the section at the top.
+ * The rows need no header view of their own, and binding them compares no strings.
+ * <pre>
+ * recyclerView.addItemDecoration(new SectionHeaderDecoration(context, sectionIndex));
+ * </pre>
+ * The label of each section is drawn once into a small bitmap, which is reused by every frame.
+ */
+public class SectionHeaderDecoration extends RecyclerView.ItemDecoration {
+    private final static int DEFAULT_HEADER_HEIGHT = 24; // dp
+    private final static int DEFAULT_TEXT_SIZE = 14; // sp
+    private final static int DEFAULT_TEXT_PADDING = 12; // dp
+
+    public static final int TEXT_ALIGN_LEFT = 0;
+    public static final int TEXT_ALIGN_CENTER = 1;
+
+    private SectionIndexer mSectionIndexer;
+
+    /**
+     * the section starting at each adapter position, or -1 if no section starts there.
+     * It's built once for the item count, so that no lookup is done for every row.
+     */
+    private int[] mSectionStarts = new int[0];
+    private boolean mSectionStartsDirty = true;
+
+    /**
+     * the label of each section drawn at the text size, built lazily
+     */
+    private Bitmap[] mLabelCache = new Bitmap[0];
+
+    private final Paint mBackgroundPaint = new Paint();
+    private final Paint mTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint.FontMetrics mFontMetrics = new Paint.FontMetrics();
+    private int mHeaderHeight;
+    private float mTextPadding;
+    private int mTextAlignment = TEXT_ALIGN_LEFT;
+    private boolean mSticky = true;
+
+    /**
+     * @param sectionIndexer the sections of the items, such as a {@link SectionIndex}
+     *                       or a {@link LiveSectionIndex}
+     */
+    public SectionHeaderDecoration(Context context, SectionIndexer sectionIndexer) {
+        mSectionIndexer = sectionIndexer;
+        mHeaderHeight = Math.round(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP,
+                DEFAULT_HEADER_HEIGHT, context.getResources().getDisplayMetrics()));
+        mTextPadding = TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP,
+                DEFAULT_TEXT_PADDING, context.getResources().getDisplayMetrics());
+        mTextPaint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP,
+                DEFAULT_TEXT_SIZE, context.getResources().getDisplayMetrics()));
+        mTextPaint.setColor(Color.BLACK);
+        mBackgroundPaint.setColor(0xFFE0E0E0);
+    }
+
+    /**
+     * Replace the sections, or call it with the same indexer after they changed,
+     * then call {@link RecyclerView#invalidateItemDecorations()}.
+     */
+    public void setSectionIndexer(SectionIndexer sectionIndexer) {
+        mSectionIndexer = sectionIndexer;
+        mSectionStartsDirty = true;
+        recycleLabelCache();
+    }
+
+    public void setHeaderHeight(int height) {
+        mHeaderHeight = height;
+        recycleLabelCache();
+    }
+
+    public void setTextSize(float size) {
+        mTextPaint.setTextSize(size);
+        recycleLabelCache();
+    }
+
+    public void setTextColor(int color) {
+        mTextPaint.setColor(color);
+        recycleLabelCache();
+    }
+
+    public void setBackgroundColor(int color) {
+        mBackgroundPaint.setColor(color);
+    }
+
+    /**
+     * @param padding the space on the left of the text if it's aligned to the left
+     */
+    public void setTextPadding(float padding) {
+        mTextPadding = padding;
+    }
+
+    public void setTextAlign(int align) {
+        if (align != TEXT_ALIGN_LEFT && align != TEXT_ALIGN_CENTER) {
+            throw new IllegalArgumentException("the alignment must be TEXT_ALIGN_LEFT or TEXT_ALIGN_CENTER");
+        }
+        mTextAlignment = align;
+    }
+
+    /**
+     * @param sticky whether to pin the header of the first visible section at the top
+     */
+    public void setSticky(boolean sticky) {
+        mSticky = sticky;
+    }
+
+    @Override
+    public void getItemOffsets(Rect outRect, View view, RecyclerView parent, RecyclerView.State state) {
+        int position = parent.getChildAdapterPosition(view);
+        outRect.set(0, getSectionStartingAt(position, state.getItemCount()) != -1 ? mHeaderHeight : 0, 0, 0);
+    }
+
+    @Override
+    public void onDraw(Canvas canvas, RecyclerView parent, RecyclerView.State state) {
+        int itemCount = state.getItemCount();
+        for (int i = 0, count = parent.getChildCount(); i < count; i++) {
+            View child = parent.getChildAt(i);
+            int section = getSectionStartingAt(parent.getChildAdapterPosition(child), itemCount);
+            if (section != -1) {
+                float top = child.getTop() + ViewCompat.getTranslationY(child) - mHeaderHeight;
+                drawHeader(canvas, parent, section, top);
+            }
+        }
+    }
+
+    @Override
+    public void onDrawOver(Canvas canvas, RecyclerView parent, RecyclerView.State state) {
+        if (!mSticky || parent.getChildCount() == 0) {
+            return;
+        }
+        int itemCount = state.getItemCount();
+        int position = parent.getChildAdapterPosition(parent.getChildAt(0));
+        if (position == RecyclerView.NO_POSITION || position >= itemCount) {
+            return;
+        }
+
+        float top = parent.getPaddingTop();
+        // the pinned header is pushed up by the header of the next section
+        for (int i = 1, count = parent.getChildCount(); i < count; i++) {
+            View child = parent.getChildAt(i);
+            if (getSectionStartingAt(parent.getChildAdapterPosition(child), itemCount) != -1) {
+                float nextTop = child.getTop() + ViewCompat.getTranslationY(child) - mHeaderHeight;
+                if (nextTop < top + mHeaderHeight) {
+                    top = nextTop - mHeaderHeight;
+                }
+                break;
+            }
+        }
+        drawHeader(canvas, parent, mSectionIndexer.getSectionForPosition(position), top);
+    }
+
+    private void drawHeader(Canvas canvas, RecyclerView parent, int section, float top) {
+        float left = parent.getPaddingLeft();
+        float right = parent.getWidth() - parent.getPaddingRight();
+        canvas.drawRect(left, top, right, top + mHeaderHeight, mBackgroundPaint);
+
+        Bitmap label = getLabel(section);
+        if (label == null) {
+            return;
+        }
+        float labelLeft = (mTextAlignment == TEXT_ALIGN_CENTER)
+                ? (left + right - label.getWidth()) / 2 : left + mTextPadding;
+        canvas.drawBitmap(label, labelLeft, top, null);
+    }
+
+    /**
+     * @return the label of the section drawn at the height of a header, or null if it's empty
+     */
+    private Bitmap getLabel(int section) {
+        Object[] sections = mSectionIndexer.getSections();
+        if (section < 0 || section >= sections.length) {
+            return null;
+        }
+        if (mLabelCache.length != sections.length) {
+            recycleLabelCache();
+            mLabelCache = new Bitmap[sections.length];
+        }
+        if (mLabelCache[section] == null) {
+            String text = String.valueOf(sections[section]);
+            int width = (int) Math.ceil(mTextPaint.measureText(text));
+            if (width == 0 || mHeaderHeight <= 0) {
+                return null;
+            }
+            Bitmap label = Bitmap.createBitmap(width, mHeaderHeight, Bitmap.Config.ARGB_8888);
+            mTextPaint.getFontMetrics(mFontMetrics);
+            float baseLine = (mHeaderHeight - mFontMetrics.descent - mFontMetrics.ascent) / 2;
+            new Canvas(label).drawText(text, 0, baseLine, mTextPaint);
+            mLabelCache[section] = label;
+        }
+        return mLabelCache[section];
+    }
+
+    private void recycleLabelCache() {
+        for (Bitmap label : mLabelCache) {
+            if (label != null) {
+                label.recycle();
+            }
+        }
+        Arrays.fill(mLabelCache, null);
+    }
+
+    /**
+     * @return the section starting at the position, or -1
+     */
+    private int getSectionStartingAt(int position, int itemCount) {
+        if (mSectionStartsDirty || mSectionStarts.length != itemCount) {
+            buildSectionStarts(itemCount);
+        }
+        return (position >= 0 && position < itemCount) ? mSectionStarts[position] : -1;
+    }
+
+    private void buildSectionStarts(int itemCount) {
+        mSectionStartsDirty = false;
+        if (mSectionStarts.length != itemCount) {
+            mSectionStarts = new int[itemCount];
+        }
+        Arrays.fill(mSectionStarts, -1);
+        // an empty section starts where the next one does, so it gets no header
+        for (int section = mSectionIndexer.getSections().length - 1; section >= 0; section--) {
+            int position = mSectionIndexer.getPositionForSection(section);
+            if (position >= 0 && position < itemCount && mSectionStarts[position] == -1) {
+                mSectionStarts[position] = section;
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.gjiazhe.wavesidebar;
+
+import android.widget.SectionIndexer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Maps the index items of a {@link WaveSideBar} to the adapter position of the first
+ * item of each section. It's built once from a list sorted in the order of the sections,
+ * then every lookup is a read from an int array.
+ */
+public class SectionIndex implements SectionIndexer {
+    private final String[] mSections;
+
+    /**
+     * the position of the first item of each section. An empty section starts
+     * at the position of the next section, or at {@link #mItemCount} if it's the last one.
+     */
+    private final int[] mSectionStartPositions;
+
+    private final int mItemCount;
+
+    private final HashMap<String, Integer> mSectionsByLabel;
+
+    /**
+     * @param sections the labels of the sections, usually the index items of the side bar
+     * @param items the items, sorted in the order of the sections
+     * @param labelExtractor gets the label of the section an item belongs to
+     * @throws IllegalArgumentException if an item belongs to none of the sections,
+     *                                  or the items are not sorted in the order of the sections
+     */
+    public <T> SectionIndex(String[] sections, List<T> items, LabelExtractor<T> labelExtractor) {
+        mSections = Arrays.copyOf(sections, sections.length);
+        mSectionsByLabel = mapSections(mSections);
+        mItemCount = items.size();
+        mSectionStartPositions = new int[mSections.length];
+        Arrays.fill(mSectionStartPositions, -1);
+
+        int lastSection = 0;
+        for (int position = 0; position < mItemCount; position++) {
+            String label = labelExtractor.getLabel(items.get(position));
+            Integer section = mSectionsByLabel.get(label);
+            if (section == null) {
+                throw new IllegalArgumentException(
+                        "the item at " + position + " belongs to an unknown section: " + label);
+            }
+            if (section < lastSection) {
+                throw new IllegalArgumentException(
+                        "the items must be sorted in the order of the sections, but the item at "
+                                + position + " (" + label + ") comes after " + mSections[lastSection]);
+            }
+            if (mSectionStartPositions[section] == -1) {
+                mSectionStartPositions[section] = position;
+            }
+            lastSection = section;
+        }
+
+        int nextStartPosition = mItemCount;
+        for (int section = mSections.length - 1; section >= 0; section--) {
+            if (mSectionStartPositions[section] == -1) {
+                mSectionStartPositions[section] = nextStartPosition;
+            }
+            nextStartPosition = mSectionStartPositions[section];
+        }
+    }
+
+    /**
+     * @param sections the labels of the sections
+     * @param sectionStartPositions the position of the first item of each section,
+     *                              in ascending order
+     * @param itemCount the number of items
+     */
+    public SectionIndex(String[] sections, int[] sectionStartPositions, int itemCount) {
+        if (sections.length != sectionStartPositions.length) {
+            throw new IllegalArgumentException("every section must have a start position");
+        }
+        for (int i = 1; i < sectionStartPositions.length; i++) {
+            if (sectionStartPositions[i] < sectionStartPositions[i - 1]) {
+                throw new IllegalArgumentException("the start positions must be in ascending order");
+            }
+        }
+        mSections = Arrays.copyOf(sections, sections.length);
+        mSectionsByLabel = mapSections(mSections);
+        mSectionStartPositions = Arrays.copyOf(sectionStartPositions, sectionStartPositions.length);
+        mItemCount = itemCount;
+    }
+
+    private static HashMap<String, Integer> mapSections(String[] sections) {
+        HashMap<String, Integer> sectionsByLabel = new HashMap<>(sections.length * 2);
+        for (int i = 0; i < sections.length; i++) {
+            sectionsByLabel.put(sections[i], i);
+        }
+        return sectionsByLabel;
+    }
+
+    @Override
+    public String[] getSections() {
+        return mSections;
+    }
+
+    /**
+     * @return the position of the first item of the section. If the section is empty,
+     * it's the position of the first item of the next section, which may be {@link #getItemCount()}.
+     */
+    @Override
+    public int getPositionForSection(int section) {
+        return mSectionStartPositions[section];
+    }
+
+    @Override
+    public int getSectionForPosition(int position) {
+        // find the last section which starts at or before the position
+        int low = 0;
+        int high = mSectionStartPositions.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (mSectionStartPositions[mid] <= position) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return Math.max(high, 0);
+    }
+
+    /**
+     * @return a copy of the position of the first item of each section, which can be
+     * attached to {@link WaveSideBar#setSectionStartPositions(int[])}
+     */
+    public int[] getSectionStartPositions() {
+        return Arrays.copyOf(mSectionStartPositions, mSectionStartPositions.length);
+    }
+
+    /**
+     * @return the index of the section with the label, or -1 if there isn't one
+     */
+    public int getSectionForLabel(String label) {
+        Integer section = mSectionsByLabel.get(label);
+        return section == null ? -1 : section;
+    }
+
+    /**
+     * @return the position of the first item of the section with the label,
+     * or -1 if there isn't one
+     */
+    public int getPositionForLabel(String label) {
+        int section = getSectionForLabel(label);
+        return section == -1 ? -1 : mSectionStartPositions[section];
+    }
+
+    public int getItemCount() {
+        return mItemCount;
+    }
+
+    public interface LabelExtractor<T> {
+        String getLabel(T item);
+    }
+}
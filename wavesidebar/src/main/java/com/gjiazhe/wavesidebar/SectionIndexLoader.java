@@ -0,0 +1,176 @@
+package com.gjiazhe.wavesidebar;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Computes the section labels and section start positions of a large list on a background
+ * thread, then publishes them to a {@link WaveSideBar} on the main thread at once.
+ * The label of each item comes from an {@link IndexTable}.
+ * <pre>
+ * loader.load(contacts, keyExtractor, sideBar, callback);
+ * </pre>
+ */
+public class SectionIndexLoader {
+    private static final String TAG = "SectionIndexLoader";
+
+    private static ExecutorService sDefaultExecutor;
+
+    private final LatestOnlyRunner mRunner;
+
+    /**
+     * the table to label the items with, or null until it's compiled for {@link #mLocale}
+     * on the executor, since compiling it on the main thread would block it
+     */
+    private volatile IndexTable mIndexTable;
+    private final Locale mLocale;
+
+    /**
+     * a loader working on a shared background thread, which recognizes Latin letters
+     * and the pinyin initials of Chinese characters
+     */
+    public SectionIndexLoader() {
+        this(getDefaultExecutor(), Locale.CHINESE);
+    }
+
+    /**
+     * @param locale the locale of the {@link IndexTable}, which is compiled on the executor
+     *               by the first load
+     */
+    public SectionIndexLoader(Executor executor, Locale locale) {
+        mRunner = new LatestOnlyRunner(executor, new Handler(Looper.getMainLooper()));
+        mLocale = locale;
+    }
+
+    public SectionIndexLoader(Executor executor, IndexTable indexTable) {
+        mRunner = new LatestOnlyRunner(executor, new Handler(Looper.getMainLooper()));
+        mIndexTable = indexTable;
+        mLocale = null;
+    }
+
+    /**
+     * the background thread shared with {@link CursorSectionIndex}
+     */
+    static synchronized Executor getDefaultExecutor() {
+        if (sDefaultExecutor == null) {
+            sDefaultExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "SectionIndexLoader");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return sDefaultExecutor;
+    }
+
+    /**
+     * Compute the sections of the items in the background, then set them to the side bar
+     * and pass them to the callback on the main thread. It must be called on the main thread.
+     * The list is copied here, so it can be changed once this method returns.
+     *
+     * @param items the items, the items of a section must be next to each other
+     * @param keyExtractor gets the key of an item, such as its name
+     * @param sideBar the side bar to set the labels and the section start positions to, or null
+     * @param callback notified of the sections, or of the failure if the items of a section
+     *                 are not next to each other, or null
+     */
+    public <T> void load(List<T> items, final KeyExtractor<T> keyExtractor,
+                         final WaveSideBar sideBar, final Callback callback) {
+        final Object[] snapshot = items.toArray();
+        mRunner.run(new LatestOnlyRunner.Job<SectionIndex>() {
+            @Override
+            public SectionIndex run() {
+                if (mIndexTable == null) {
+                    mIndexTable = IndexTable.forLocale(mLocale);
+                }
+                return buildSectionIndex(snapshot, keyExtractor, mIndexTable);
+            }
+        }, new LatestOnlyRunner.Receiver<SectionIndex>() {
+            @Override
+            public void onResult(SectionIndex sectionIndex) {
+                if (sideBar != null) {
+                    sideBar.setIndexItems(sectionIndex.getSections());
+                    sideBar.setSectionStartPositions(sectionIndex.getSectionStartPositions());
+                }
+                if (callback != null) {
+                    callback.onSectionIndexLoaded(sectionIndex);
+                }
+            }
+
+            @Override
+            public void onFailure(RuntimeException e) {
+                if (callback != null) {
+                    callback.onSectionIndexLoadFailed(e);
+                } else {
+                    Log.e(TAG, "failed to build the sections", e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Drop the result of the pending {@link #load}, if there is one.
+     */
+    public void cancel() {
+        mRunner.cancel();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> SectionIndex buildSectionIndex(Object[] items, KeyExtractor<T> keyExtractor,
+                                                      IndexTable indexTable) {
+        List<String> sections = new ArrayList<>();
+        int[] startPositions = new int[16];
+        HashSet<String> seen = new HashSet<>();
+
+        String lastLabel = null;
+        for (int position = 0; position < items.length; position++) {
+            String label = indexTable.labelOf(keyExtractor.getKey((T) items[position]));
+            // the labels are shared instances, so they can be compared by reference
+            if (label == lastLabel) {
+                continue;
+            }
+            if (!seen.add(label)) {
+                throw new IllegalArgumentException("the items of section " + label
+                        + " must be next to each other, but the item at " + position + " is not");
+            }
+            if (sections.size() == startPositions.length) {
+                int[] grown = new int[startPositions.length * 2];
+                System.arraycopy(startPositions, 0, grown, 0, startPositions.length);
+                startPositions = grown;
+            }
+            startPositions[sections.size()] = position;
+            sections.add(label);
+            lastLabel = label;
+        }
+
+        int[] sectionStartPositions = new int[sections.size()];
+        System.arraycopy(startPositions, 0, sectionStartPositions, 0, sectionStartPositions.length);
+        return new SectionIndex(sections.toArray(new String[sections.size()]), sectionStartPositions, items.length);
+    }
+
+    public interface KeyExtractor<T> {
+        CharSequence getKey(T item);
+    }
+
+    public interface Callback {
+        void onSectionIndexLoaded(SectionIndex sectionIndex);
+
+        /**
+         * @param e the reason, such as an IllegalArgumentException if the items
+         *          of a section are not next to each other
+         */
+        void onSectionIndexLoadFailed(RuntimeException e);
+    }
+}
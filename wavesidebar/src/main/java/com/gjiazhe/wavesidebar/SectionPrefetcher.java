@@ -0,0 +1,213 @@
+package com.gjiazhe.wavesidebar;
+
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.support.v7.widget.RecyclerView;
+import android.util.SparseIntArray;
+import android.widget.SectionIndexer;
+
+/**
+ * Gets a RecyclerView ready to jump to the next one or two sections a drag on a
+ * {@link WaveSideBar} is heading to, in the direction and at the speed of the finger.
+ * <pre>
+ * sideBar.setOnSelectIndexListener(new SectionPrefetcher(sideBar, recyclerView, sectionIndex,
+ *         new SectionScroller(layoutManager, sectionIndex)));
+ * </pre>
+ * A jump recycles the holders of the rows on screen into the pool and takes the holders of
+ * the new rows from there, so the max of the pool is raised to what the rows of a section ahead
+ * need of each view type, and holders are only created for the view types the rows on screen
+ * don't have enough of. With a single view type, none is created. The holders are not bound:
+ * a holder taken from the pool is always bound again, so the jump only saves inflations.
+ * <p>
+ * The work waits until the main thread is idle after the frame of the selection, creates
+ * at most {@link #MAX_CREATIONS_PER_IDLE} holders each time the thread is idle, and is
+ * dropped by the next selection. The max of the pool is never lowered: if the app sets
+ * a larger max, it sets it through {@link #setMaxRecycledViews(int, int)}.
+ */
+public class SectionPrefetcher implements WaveSideBar.OnSelectIndexListener {
+    private final static int MAX_CREATIONS_PER_IDLE = 2;
+
+    /**
+     * from this speed on, in items per second, two sections ahead are warmed up instead of one
+     */
+    private final static float FAST_DRAG_VELOCITY = 8;
+
+    /**
+     * the max number of holders of a view type in a RecycledViewPool which wasn't set
+     */
+    private final static int DEFAULT_MAX_RECYCLED_VIEWS = 5;
+
+    private final WaveSideBar mSideBar;
+    private final RecyclerView mRecyclerView;
+    private SectionIndexer mSectionIndexer;
+    private final WaveSideBar.OnSelectIndexListener mDelegate;
+
+    /**
+     * the number of holders created for each view type during the current drag
+     */
+    private final SparseIntArray mCreatedCounts = new SparseIntArray();
+
+    /**
+     * the number of holders needed for each view type by the section being warmed up
+     */
+    private final SparseIntArray mNeededCounts = new SparseIntArray();
+
+    /**
+     * the number of rows of each view type on screen, whose holders the jump recycles
+     */
+    private final SparseIntArray mShownCounts = new SparseIntArray();
+
+    /**
+     * the max number of holders of each view type in the pool, as far as it's known,
+     * since the pool can't tell it
+     */
+    private final SparseIntArray mMaxRecycledViews = new SparseIntArray();
+
+    /**
+     * the first positions of the sections ahead, warmed up in this order
+     */
+    private final int[] mPendingPositions = new int[2];
+    private int mPendingCount = 0;
+
+    private MessageQueue mQueue;
+    private boolean mWarmUpScheduled = false;
+    private final MessageQueue.IdleHandler mWarmUp = new MessageQueue.IdleHandler() {
+        @Override
+        public boolean queueIdle() {
+            mWarmUpScheduled = warmUpPending();
+            return mWarmUpScheduled;
+        }
+    };
+
+    /**
+     * @param sectionIndexer the sections of the index items of the side bar, in the same order,
+     *                       such as a {@link SectionIndex} or a {@link LiveSectionIndex}
+     * @param delegate the listener to notify first, such as a {@link SectionScroller}, or null
+     */
+    public SectionPrefetcher(WaveSideBar sideBar, RecyclerView recyclerView,
+                             SectionIndexer sectionIndexer, WaveSideBar.OnSelectIndexListener delegate) {
+        mSideBar = sideBar;
+        mRecyclerView = recyclerView;
+        mSectionIndexer = sectionIndexer;
+        mDelegate = delegate;
+    }
+
+    /**
+     * Replace the sections, when the items of the list change.
+     */
+    public void setSectionIndexer(SectionIndexer sectionIndexer) {
+        mSectionIndexer = sectionIndexer;
+    }
+
+    /**
+     * Set the max number of holders of a view type in the pool of the RecyclerView,
+     * instead of setting it on the pool, so that it's only raised from there.
+     */
+    public void setMaxRecycledViews(int viewType, int max) {
+        mMaxRecycledViews.put(viewType, max);
+        mRecyclerView.getRecycledViewPool().setMaxRecycledViews(viewType, max);
+    }
+
+    @Override
+    public void onSelectIndex(int index, String indexItem, int position) {
+        if (mDelegate != null) {
+            mDelegate.onSelectIndex(index, indexItem, position);
+        }
+        cancelWarmUp();
+        if (mSideBar.isDrilledDown()) {
+            // the index is one of the sub-items, not one of the sections
+            return;
+        }
+
+        int direction = mSideBar.getDragDirection();
+        if (direction == 0) {
+            // a new drag, the holders created before have been used or are still in the pool
+            mCreatedCounts.clear();
+            return;
+        }
+        int ahead = (Math.abs(mSideBar.getDragVelocity()) >= FAST_DRAG_VELOCITY) ? 2 : 1;
+        int sectionCount = mSectionIndexer.getSections().length;
+        for (int i = 1; i <= ahead; i++) {
+            int section = index + direction * i;
+            if (section < 0 || section >= sectionCount) {
+                break;
+            }
+            mPendingPositions[mPendingCount++] = mSectionIndexer.getPositionForSection(section);
+        }
+        if (mPendingCount > 0) {
+            // not in the frame of the selection, which the jump already makes heavy
+            if (mQueue == null) {
+                mQueue = Looper.myQueue();
+            }
+            mQueue.addIdleHandler(mWarmUp);
+            mWarmUpScheduled = true;
+        }
+    }
+
+    private void cancelWarmUp() {
+        if (mWarmUpScheduled) {
+            mQueue.removeIdleHandler(mWarmUp);
+            mWarmUpScheduled = false;
+        }
+        mPendingCount = 0;
+    }
+
+    /**
+     * warm up the pending sections, within the budget of an idle time
+     *
+     * @return true if there are holders left to create in the next idle time
+     */
+    private boolean warmUpPending() {
+        int budget = MAX_CREATIONS_PER_IDLE;
+        for (int i = 0; i < mPendingCount; i++) {
+            budget -= warmUp(mPendingPositions[i], budget);
+            if (budget == 0) {
+                return true;
+            }
+        }
+        mPendingCount = 0;
+        return false;
+    }
+
+    /**
+     * raise the max of the pool to what the rows shown from the position need, and create
+     * the holders the rows on screen and the ones created before don't cover
+     *
+     * @return the number of holders created
+     */
+    private int warmUp(int position, int budget) {
+        RecyclerView.Adapter adapter = mRecyclerView.getAdapter();
+        RecyclerView.LayoutManager layoutManager = mRecyclerView.getLayoutManager();
+        if (adapter == null || layoutManager == null) {
+            return 0;
+        }
+        int childCount = layoutManager.getChildCount();
+        mShownCounts.clear();
+        for (int i = 0; i < childCount; i++) {
+            int type = mRecyclerView.getChildViewHolder(layoutManager.getChildAt(i)).getItemViewType();
+            mShownCounts.put(type, mShownCounts.get(type) + 1);
+        }
+        int end = Math.min(adapter.getItemCount(), position + Math.max(1, childCount));
+
+        mNeededCounts.clear();
+        int created = 0;
+        RecyclerView.RecycledViewPool pool = mRecyclerView.getRecycledViewPool();
+        for (int p = Math.max(0, position); p < end && created < budget; p++) {
+            int type = adapter.getItemViewType(p);
+            int needed = mNeededCounts.get(type) + 1;
+            mNeededCounts.put(type, needed);
+            // the pool drops the holders beyond its max
+            if (needed > mMaxRecycledViews.get(type, DEFAULT_MAX_RECYCLED_VIEWS)) {
+                mMaxRecycledViews.put(type, needed);
+                pool.setMaxRecycledViews(type, needed);
+            }
+            if (mShownCounts.get(type) + mCreatedCounts.get(type) >= needed) {
+                continue;
+            }
+            pool.putRecycledView(adapter.createViewHolder(mRecyclerView, type));
+            mCreatedCounts.put(type, mCreatedCounts.get(type) + 1);
+            created++;
+        }
+        return created;
+    }
+}
@@ -0,0 +1,84 @@
+package com.gjiazhe.wavesidebar;
+
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.widget.SectionIndexer;
+
+/**
+ * Marks the section of the first visible item of a RecyclerView as the active index of a
+ * {@link WaveSideBar} while the list scrolls. The section is found by a binary search,
+ * the side bar is only redrawn when it changes, and nothing is allocated on a scroll.
+ * <pre>
+ * new SectionScrollTracker(sideBar, sectionIndex).attachTo(recyclerView);
+ * </pre>
+ */
+public class SectionScrollTracker extends RecyclerView.OnScrollListener {
+    private final WaveSideBar mSideBar;
+    private SectionIndexer mSectionIndexer;
+
+    private int mLastPosition = RecyclerView.NO_POSITION;
+
+    /**
+     * @param sectionIndexer the sections of the index items of the side bar, in the same order,
+     *                       such as a {@link SectionIndex} or a {@link LiveSectionIndex}
+     */
+    public SectionScrollTracker(WaveSideBar sideBar, SectionIndexer sectionIndexer) {
+        mSideBar = sideBar;
+        mSectionIndexer = sectionIndexer;
+    }
+
+    /**
+     * Listen to the scrolls of the RecyclerView, and mark the current section at once.
+     */
+    public void attachTo(RecyclerView recyclerView) {
+        recyclerView.addOnScrollListener(this);
+        update(recyclerView);
+    }
+
+    public void detachFrom(RecyclerView recyclerView) {
+        recyclerView.removeOnScrollListener(this);
+    }
+
+    /**
+     * Replace the sections, when the items of the list change.
+     */
+    public void setSectionIndexer(SectionIndexer sectionIndexer) {
+        mSectionIndexer = sectionIndexer;
+        mLastPosition = RecyclerView.NO_POSITION;
+    }
+
+    @Override
+    public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+        update(recyclerView);
+    }
+
+    /**
+     * mark the section of the first visible item, if it changed
+     */
+    public void update(RecyclerView recyclerView) {
+        int position = findFirstVisiblePosition(recyclerView.getLayoutManager());
+        if (position == mLastPosition) {
+            return;
+        }
+        mLastPosition = position;
+
+        int section = (position == RecyclerView.NO_POSITION || mSectionIndexer.getSections().length == 0)
+                ? -1 : mSectionIndexer.getSectionForPosition(position);
+        if (section < mSideBar.getIndexItemCount()) {
+            // the side bar only redraws if the section changed
+            mSideBar.setActiveIndex(section);
+        }
+    }
+
+    private static int findFirstVisiblePosition(RecyclerView.LayoutManager layoutManager) {
+        if (layoutManager instanceof LinearLayoutManager) {
+            return ((LinearLayoutManager) layoutManager).findFirstVisibleItemPosition();
+        }
+        if (layoutManager == null || layoutManager.getChildCount() == 0) {
+            return RecyclerView.NO_POSITION;
+        }
+        View child = layoutManager.getChildAt(0);
+        return layoutManager.getPosition(child);
+    }
+}
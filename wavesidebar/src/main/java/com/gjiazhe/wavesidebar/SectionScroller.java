@@ -0,0 +1,60 @@
+package com.gjiazhe.wavesidebar;
+
+import android.support.v7.widget.LinearLayoutManager;
+import android.widget.SectionIndexer;
+
+/**
+ * Scrolls a RecyclerView to the first item of the selected section of a {@link WaveSideBar}.
+ * Prefer it as an {@link WaveSideBar.OnSelectIndexListener}, which finds the section
+ * by its index instead of its label.
+ * <pre>
+ * sideBar.setOnSelectIndexListener(new SectionScroller(layoutManager, sectionIndex));
+ * </pre>
+ */
+public class SectionScroller implements WaveSideBar.OnSelectIndexItemListener,
+        WaveSideBar.OnSelectIndexListener {
+    private final LinearLayoutManager mLayoutManager;
+    private final SectionIndexer mSectionIndexer;
+
+    /**
+     * @param sectionIndexer the sections of the index items of the side bar, in the same order,
+     *                       such as a {@link SectionIndex} or a {@link LiveSectionIndex}
+     */
+    public SectionScroller(LinearLayoutManager layoutManager, SectionIndexer sectionIndexer) {
+        mLayoutManager = layoutManager;
+        mSectionIndexer = sectionIndexer;
+    }
+
+    @Override
+    public void onSelectIndexItem(String index) {
+        if (mSectionIndexer instanceof SectionIndex) {
+            scrollToPosition(((SectionIndex) mSectionIndexer).getPositionForLabel(index));
+            return;
+        }
+        Object[] sections = mSectionIndexer.getSections();
+        for (int i = 0; i < sections.length; i++) {
+            if (sections[i].equals(index)) {
+                scrollToPosition(mSectionIndexer.getPositionForSection(i));
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onSelectIndex(int index, String indexItem, int position) {
+        if (position == -1) {
+            position = mSectionIndexer.getPositionForSection(index);
+        }
+        scrollToPosition(position);
+    }
+
+    private void scrollToPosition(int position) {
+        int itemCount = mLayoutManager.getItemCount();
+        if (position < 0 || itemCount == 0) {
+            return;
+        }
+        // an empty section at the end starts right after the last item
+        position = Math.min(position, itemCount - 1);
+        mLayoutManager.scrollToPositionWithOffset(position, 0);
+    }
+}
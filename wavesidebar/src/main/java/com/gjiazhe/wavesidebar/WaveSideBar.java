@@ -1,18 +1,30 @@
 package com.gjiazhe.wavesidebar;
 
+import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Rect;
 import android.graphics.RectF;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.support.v4.os.TraceCompat;
+import android.support.v4.view.ViewCompat;
 import android.util.AttributeSet;
 import android.util.DisplayMetrics;
 import android.util.TypedValue;
+import android.view.Choreographer;
 import android.view.MotionEvent;
 import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.animation.AnimationUtils;
 
 import java.util.Arrays;
+import java.util.HashMap;
 
 /**
  * Created by gjz on 8/23/16.
@@ -21,17 +33,95 @@ public class WaveSideBar extends View {
     private final static int DEFAULT_TEXT_SIZE = 14; // sp
     private final static int DEFAULT_MAX_OFFSET = 80; //dp
 
+    /**
+     * max width of {@link #mGlyphAtlas}, kept under the smallest max texture size
+     */
+    private final static int MAX_GLYPH_ATLAS_WIDTH = 2048; // px
+    private final static int MAX_GLYPH_ATLAS_HEIGHT = 2048;
+
+    /**
+     * the icons drawn instead of the text of some index items are rasterized into a
+     * sprite sheet of {@link #MAX_GLYPH_ATLAS_WIDTH} at most
+     */
+    private final static int MAX_ICON_SHEET_HEIGHT = 1024; // px
+
+    /**
+     * the items farther than the wave radius from the finger are drawn at scale 0
+     */
+    private final static float DEFAULT_WAVE_RADIUS = 4; // items
+
+    /**
+     * the weight of a new sample in the drag velocity
+     */
+    private final static float DRAG_VELOCITY_SMOOTHING = 0.5f;
+
+    /**
+     * the finger has to move further than this to redraw the wave
+     */
+    private final static float MIN_INVALIDATE_DISTANCE = 0.5f; // px
+
+    /**
+     * angular frequency of the critically damped spring which moves the wave to the finger
+     */
+    private final static float WAVE_SPRING_FREQUENCY = 30; // rad/s
+
+    /**
+     * rates of the exponential growth of the wave when the finger down,
+     * and of its decay when the finger up
+     */
+    private final static float WAVE_RISE_RATE = 30; // 1/s
+    private final static float WAVE_DECAY_RATE = 10; // 1/s
+
+    /**
+     * the spring is integrated in steps no longer than this to stay stable
+     */
+    private final static float WAVE_MAX_STEP = 1 / 120f; // s
+
+    /**
+     * the label of a row standing for several hidden items, see {@link #mAdaptiveCollapse}
+     */
+    private final static String COLLAPSED_ITEMS_PLACEHOLDER = "\u2022";
+
     private final static String[] DEFAULT_INDEX_ITEMS = {"A", "B", "C", "D", "E", "F", "G", "H", "I",
             "J", "K", "L", "M", "N", "O", "P", "Q", "R", "S", "T", "U", "V", "W", "X", "Y", "Z"};
 
     private String[] mIndexItems;
 
+    /**
+     * {@link Arrays#hashCode(Object[])} of {@link #mIndexItems}, to tell quickly
+     * that new index items are different
+     */
+    private int mIndexItemsHash;
+
+    /**
+     * if true and the items don't fit the height of the view, only some of them are shown
+     * and the ones in between are collapsed into {@link #COLLAPSED_ITEMS_PLACEHOLDER} rows
+     */
+    private boolean mAdaptiveCollapse = false;
+
+    /**
+     * the rows the items are drawn in, and the math of the wave and of hit testing
+     */
+    private final IndexLayout mLayout = new IndexLayout();
+
+    /**
+     * the height of each index item in lines of text, null if they are all 1 line high
+     */
+    private float[] mIndexItemWeights;
+
     /**
      * the index in {@link #mIndexItems} of the current selected index item,
      * it's reset to -1 when the finger up
      */
     private int mCurrentIndex = -1;
 
+    /**
+     * the index in {@link #mIndexItems} of the item marked as the current section
+     * without a touch, such as the section of the first visible item of a list, or -1
+     */
+    private int mActiveIndex = -1;
+    private int mHighlightColor;
+
     /**
      * Y coordinate of the point where finger is touching,
      * the baseline is top of {@link #mStartTouchingArea}
@@ -39,10 +129,47 @@ public class WaveSideBar extends View {
      */
     private float mCurrentY = -1;
 
+    /**
+     * if true, the wave follows the finger through a spring and decays after the finger up,
+     * instead of jumping to the finger and disappearing at once
+     */
+    private boolean mWaveAnimationEnabled = true;
+
+    /**
+     * Y coordinate of the center of the wave drawn, it follows {@link #mCurrentY}
+     */
+    private float mWaveY = -1;
+    private float mWaveVelocity = 0; // px/s
+
+    /**
+     * the height of the wave from 0 to 1, the scale of each item is multiplied by it
+     */
+    private float mWaveAmplitude = 0;
+
+    private boolean mWaveAnimating = false;
+    private long mLastWaveFrameTime;
+    private final Runnable mWaveAnimator = new Runnable() {
+        @Override
+        public void run() {
+            stepWaveAnimation();
+        }
+    };
+
     private Paint mPaint;
     private int mTextColor;
     private float mTextSize;
 
+    /**
+     * the measurement of {@link #mIndexItems}, reused by every measure pass until the items,
+     * the text size or the typeface change, see {@link #measureIndexItems()}
+     */
+    private final Paint.FontMetrics mFontMetrics = new Paint.FontMetrics();
+    private float[] mItemWidths = new float[0];
+    private boolean mMeasureCacheValid = false;
+    private String[] mMeasuredItems;
+    private float mMeasuredTextSize;
+    private Typeface mMeasuredTypeface;
+
     /**
      * the height of each index item
      */
@@ -72,13 +199,58 @@ public class WaveSideBar extends View {
      */
     private boolean mStartTouching = false;
 
+    /**
+     * the speed of the finger along the bar in items per second, positive towards
+     * the last item, smoothed over the samples of {@link #onTouchEvent(MotionEvent)}.
+     * It's 0 when the finger is up.
+     */
+    private float mDragVelocity = 0;
+    private float mLastDragY;
+    private long mLastDragTime;
+
     /**
      * if true, the {@link OnSelectIndexItemListener#onSelectIndexItem(String)}
-     * will not be called until the finger up.
+     * and {@link OnSelectIndexListener#onSelectIndex(int, String, int)} will not be called until the finger up.
      * if false, it will be called when the finger down, up and move.
      */
     private boolean mLazyRespond = false;
 
+    /**
+     * if true, the listeners are only called when the selected index item changes,
+     * instead of on every {@link MotionEvent#ACTION_MOVE}.
+     */
+    private boolean mDispatchOnChange = false;
+
+    /**
+     * the index last passed to the listeners in the current touch,
+     * it's reset to -1 when the finger down
+     */
+    private int mLastDispatchedIndex = -1;
+
+    /**
+     * number of calls to the listeners skipped because of {@link #mDispatchOnChange}
+     */
+    private long mSuppressedDispatchCount = 0;
+
+    /**
+     * if true, the selections of {@link MotionEvent#ACTION_MOVE} are collected and only
+     * the latest one is passed to the listeners, once per frame. It needs API 16,
+     * the listeners are called on every move on older devices.
+     */
+    private boolean mCoalesceDispatch = false;
+
+    /**
+     * whether a selection is waiting for {@link #mFrameDispatcher}
+     */
+    private boolean mDispatchPending = false;
+    private FrameDispatcher mFrameDispatcher;
+
+    /**
+     * records what the side bar costs, null unless the metrics are enabled
+     */
+    private MetricsRecorder mMetrics;
+    private OnMetricsListener mOnMetricsListener;
+
     /**
      * the position of the side bar, default is {@link #POSITION_RIGHT}.
      * You can set it to {@link #POSITION_LEFT} for people who use phone with left hand.
@@ -100,17 +272,145 @@ public class WaveSideBar extends View {
      * observe the current selected index item
      */
     private OnSelectIndexItemListener onSelectIndexItemListener;
+    private OnSelectIndexListener onSelectIndexListener;
+
+    /**
+     * the adapter position of the first item of each section, passed to
+     * {@link OnSelectIndexListener#onSelectIndex(int, String, int)}
+     */
+    private int[] mSectionStartPositions;
 
     /**
-     * the baseline of the first index item text to draw
+     * gives the sub-items of the index item held by the finger, or null not to drill down
      */
-    private float mFirstItemBaseLineY;
+    private SubIndexProvider mSubIndexProvider;
+
+    /**
+     * the index items and section start positions set to the side bar, which are shown again
+     * when the finger up, or null if it's not drilled down
+     */
+    private String[] mParentIndexItems;
+    private int[] mParentSectionStartPositions;
+
+    private final Runnable mDrillDown = new Runnable() {
+        @Override
+        public void run() {
+            drillDown();
+        }
+    };
+
+    /**
+     * the baseline of each index item text to draw when it's not scaled,
+     * they are filled in {@link #onMeasure(int, int)} so that {@link #onDraw(Canvas)}
+     * only has to add the offset of the wave
+     */
+    private float[] mItemBaseLineX = new float[0];
+    private float[] mItemBaseLineY = new float[0];
+
+    /**
+     * the direction the items are offset to, 1 for {@link #POSITION_LEFT}
+     * and -1 for {@link #POSITION_RIGHT}
+     */
+    private float mOffsetSign;
+
+    /**
+     * the part of the width of an item which is on the left of its baseline X,
+     * 0 for {@link #TEXT_ALIGN_LEFT}, 0.5 for {@link #TEXT_ALIGN_CENTER}
+     * and 1 for {@link #TEXT_ALIGN_RIGHT}
+     */
+    private float mAlignFactor;
 
     /**
      * for {@link #dp2px(int)} and {@link #sp2px(int)}
      */
     private DisplayMetrics mDisplayMetrics;
 
+    /**
+     * if true, each index item is rasterized once into {@link #mGlyphAtlas} at its
+     * max scale and drawn as a scaled bitmap, instead of asking the text renderer
+     * to rasterize it at a new size on every frame.
+     */
+    private boolean mGlyphCacheEnabled = false;
+
+    /**
+     * the shared bitmap holding the glyphs of all the index items,
+     * it's rebuilt lazily after {@link #setIndexItems(String...)},
+     * {@link #setTextSize(float)} and {@link #setTextColor(int)}
+     */
+    private Bitmap mGlyphAtlas;
+    private boolean mGlyphAtlasDirty = true;
+
+    /**
+     * bounds of each index item in {@link #mGlyphAtlas}
+     */
+    private Rect[] mGlyphBounds;
+
+    /**
+     * distance from the top of a glyph to its baseline in {@link #mGlyphAtlas}
+     */
+    private float mGlyphBaseLine;
+
+    private Paint mGlyphPaint;
+    private RectF mGlyphDrawRect = new RectF();
+
+    /**
+     * the icons drawn instead of the text of the index items, by label
+     */
+    private final HashMap<String, Drawable> mIndexItemIcons = new HashMap<>();
+
+    /**
+     * all the icons of the index items rasterized once at the max scale, so that they
+     * are drawn as scaled bitmaps without touching the drawables on every frame
+     */
+    private Bitmap mIconSheet;
+    private boolean mIconSheetDirty = true;
+
+    /**
+     * bounds of each icon in {@link #mIconSheet}
+     */
+    private Rect[] mIconBounds;
+
+    /**
+     * the index in {@link #mIconBounds} of the icon of each index item, or -1
+     */
+    private int[] mItemIcons = new int[0];
+
+    /**
+     * the radius of the wave in items, see {@link #DEFAULT_WAVE_RADIUS}
+     */
+    private float mWaveRadius;
+
+    /**
+     * the falloff curve of the wave, default is {@link #WAVE_CURVE_QUADRATIC}.
+     */
+    private int mWaveCurve;
+    public static final int WAVE_CURVE_QUADRATIC = IndexLayout.WAVE_CURVE_QUADRATIC;
+    public static final int WAVE_CURVE_LINEAR = IndexLayout.WAVE_CURVE_LINEAR;
+    public static final int WAVE_CURVE_COSINE = IndexLayout.WAVE_CURVE_COSINE;
+
+    /**
+     * if true, the items at rest are drawn once into {@link #mIdleCache} and replayed
+     * from it, only the items in the wave are drawn live
+     */
+    private boolean mIdleCacheEnabled;
+
+    /**
+     * the side bar with all the items at scale 0, covering {@link #mIdleCacheBounds}.
+     * It's redrawn after {@link #setIndexItems(String...)}, {@link #setTextColor(int)},
+     * {@link #setTextSize(float)}, {@link #setPosition(int)} or a new layout.
+     */
+    private Bitmap mIdleCache;
+    private boolean mIdleCacheDirty = true;
+    private Rect mIdleCacheBounds = new Rect();
+    private Rect mIdleCacheSrc = new Rect();
+    private Rect mIdleCacheDst = new Rect();
+
+    /**
+     * the region to redraw when the wave moves, see {@link #invalidateWave(float, float)}
+     */
+    private RectF mWaveBounds = new RectF();
+    private Rect mDirtyRect = new Rect();
+
 
     public WaveSideBar(Context context) {
         this(context, null);
@@ -126,14 +426,29 @@ public class WaveSideBar extends View {
 
         TypedArray typedArray = context.obtainStyledAttributes(attrs, R.styleable.WaveSideBar);
         mLazyRespond = typedArray.getBoolean(R.styleable.WaveSideBar_sidebar_lazy_respond, false);
+        mDispatchOnChange = typedArray.getBoolean(R.styleable.WaveSideBar_sidebar_dispatch_on_change, false);
+        mCoalesceDispatch = typedArray.getBoolean(R.styleable.WaveSideBar_sidebar_coalesce_dispatch, false);
+        mWaveAnimationEnabled = typedArray.getBoolean(R.styleable.WaveSideBar_sidebar_wave_animation, true);
         mTextColor = typedArray.getColor(R.styleable.WaveSideBar_sidebar_text_color, Color.GRAY);
+        mHighlightColor = typedArray.getColor(R.styleable.WaveSideBar_sidebar_highlight_color, Color.BLACK);
         mTextSize = typedArray.getDimension(R.styleable.WaveSideBar_sidebar_text_size, sp2px(DEFAULT_TEXT_SIZE));
         mMaxOffset = typedArray.getDimension(R.styleable.WaveSideBar_sidebar_max_offset, dp2px(DEFAULT_MAX_OFFSET));
         mSideBarPosition = typedArray.getInt(R.styleable.WaveSideBar_sidebar_position, POSITION_RIGHT);
         mTextAlignment = typedArray.getInt(R.styleable.WaveSideBar_sidebar_text_alignment, TEXT_ALIGN_CENTER);
+        mGlyphCacheEnabled = typedArray.getBoolean(R.styleable.WaveSideBar_sidebar_glyph_cache, false);
+        mIdleCacheEnabled = typedArray.getBoolean(R.styleable.WaveSideBar_sidebar_idle_cache, false);
+        mAdaptiveCollapse = typedArray.getBoolean(R.styleable.WaveSideBar_sidebar_adaptive_collapse, false);
+        mWaveRadius = typedArray.getFloat(R.styleable.WaveSideBar_sidebar_wave_radius, DEFAULT_WAVE_RADIUS);
+        mWaveCurve = typedArray.getInt(R.styleable.WaveSideBar_sidebar_wave_curve, WAVE_CURVE_QUADRATIC);
         typedArray.recycle();
+        if (mWaveRadius <= 0) {
+            throw new IllegalArgumentException("the wave radius must be positive");
+        }
 
         mIndexItems = DEFAULT_INDEX_ITEMS;
+        mIndexItemsHash = Arrays.hashCode(DEFAULT_INDEX_ITEMS);
+
+        mLayout.setWave(mWaveRadius, mWaveCurve);
 
         initPaint();
     }
@@ -148,6 +463,8 @@ public class WaveSideBar extends View {
             case TEXT_ALIGN_LEFT:   mPaint.setTextAlign(Paint.Align.LEFT); break;
             case TEXT_ALIGN_RIGHT:  mPaint.setTextAlign(Paint.Align.RIGHT); break;
         }
+
+        mGlyphPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
     }
 
     @Override
@@ -157,14 +474,35 @@ public class WaveSideBar extends View {
         int height = MeasureSpec.getSize(heightMeasureSpec);
         int width = MeasureSpec.getSize(widthMeasureSpec);
 
-        Paint.FontMetrics fontMetrics = mPaint.getFontMetrics();
-        mIndexItemHeight = fontMetrics.bottom - fontMetrics.top;
-        mBarHeight = mIndexItems.length * mIndexItemHeight;
+        if (mMetrics == null) {
+            layoutSideBar(width, height);
+            return;
+        }
+        TraceCompat.beginSection("WaveSideBar#onMeasure");
+        long start = System.nanoTime();
+        try {
+            layoutSideBar(width, height);
+        } finally {
+            mMetrics.recordMeasure(System.nanoTime() - start);
+            TraceCompat.endSection();
+        }
+    }
 
-        // calculate the width of the longest text as the width of side bar
-        for (String indexItem : mIndexItems) {
-            mBarWidth = Math.max(mBarWidth, mPaint.measureText(indexItem));
+    /**
+     * lay out the rows and fill the layout tables for the size of the view
+     */
+    private void layoutSideBar(int width, int height) {
+        if (!mMeasureCacheValid || mMeasuredItems != mIndexItems
+                || mMeasuredTextSize != mTextSize || mMeasuredTypeface != mPaint.getTypeface()) {
+            measureIndexItems();
         }
+        Paint.FontMetrics fontMetrics = mFontMetrics;
+        // the weights are the ones of the parent items, not of their sub-items
+        float[] weights = (mParentIndexItems == null) ? mIndexItemWeights : null;
+        mLayout.layoutRows(mIndexItems.length, weights, mIndexItemHeight,
+                height - getPaddingTop() - getPaddingBottom(), mAdaptiveCollapse);
+        int rowCount = mLayout.getRowCount();
+        mBarHeight = mLayout.getBarHeight();
 
         float areaLeft = (mSideBarPosition == POSITION_LEFT) ? 0 : (width - mBarWidth - getPaddingRight());
         float areaRight = (mSideBarPosition == POSITION_LEFT) ? (getPaddingLeft() + areaLeft + mBarWidth) : width;
@@ -176,61 +514,184 @@ public class WaveSideBar extends View {
                 areaRight,
                 areaBottom);
 
+        // the idle cache has to be redrawn if the items moved
+        int previousCacheLeft = mIdleCacheBounds.left;
+        int previousCacheTop = mIdleCacheBounds.top;
+        int previousCacheRight = mIdleCacheBounds.right;
+        int previousCacheBottom = mIdleCacheBounds.bottom;
+        mStartTouchingArea.roundOut(mIdleCacheBounds);
+        if (mIdleCacheBounds.left != previousCacheLeft || mIdleCacheBounds.top != previousCacheTop
+                || mIdleCacheBounds.right != previousCacheRight || mIdleCacheBounds.bottom != previousCacheBottom) {
+            mIdleCacheDirty = true;
+        }
+
         // the baseline Y of the first item' text to draw
-        mFirstItemBaseLineY = (height/2 - mIndexItems.length*mIndexItemHeight/2)
+        float firstItemBaseLineY = (height/2 - mBarHeight/2)
                 + (mIndexItemHeight/2 - (fontMetrics.descent-fontMetrics.ascent)/2)
                 - fontMetrics.ascent;
+
+        // the baseline X of the items when they are not scaled
+        float baseLineX = 0f;
+        if (mSideBarPosition == POSITION_LEFT) {
+            mOffsetSign = 1;
+            switch (mTextAlignment) {
+                case TEXT_ALIGN_CENTER: baseLineX = getPaddingLeft() + mBarWidth/2; break;
+                case TEXT_ALIGN_LEFT:   baseLineX = getPaddingLeft(); break;
+                case TEXT_ALIGN_RIGHT:  baseLineX = getPaddingLeft() + mBarWidth; break;
+            }
+        } else {
+            mOffsetSign = -1;
+            switch (mTextAlignment) {
+                case TEXT_ALIGN_CENTER: baseLineX = width - getPaddingRight() - mBarWidth/2; break;
+                case TEXT_ALIGN_RIGHT:  baseLineX = width - getPaddingRight(); break;
+                case TEXT_ALIGN_LEFT:   baseLineX = width - getPaddingRight() - mBarWidth; break;
+            }
+        }
+        switch (mTextAlignment) {
+            case TEXT_ALIGN_LEFT:  mAlignFactor = 0f; break;
+            case TEXT_ALIGN_RIGHT: mAlignFactor = 1f; break;
+            default:               mAlignFactor = 0.5f; break;
+        }
+
+        if (mItemBaseLineY.length != rowCount) {
+            mItemBaseLineX = new float[rowCount];
+            mItemBaseLineY = new float[rowCount];
+        }
+        Arrays.fill(mItemBaseLineX, baseLineX);
+        mLayout.fillBaseLinesY(mItemBaseLineY, firstItemBaseLineY, mIndexItemHeight);
+    }
+
+    /**
+     * @return false if the rows were laid out for other items and a layout is pending
+     */
+    private boolean isRowLayoutValid() {
+        return mLayout.getItemCount() == mIndexItems.length;
+    }
+
+    /**
+     * measure the height of an item and the width of each item
+     */
+    private void measureIndexItems() {
+        mPaint.getFontMetrics(mFontMetrics);
+        mIndexItemHeight = mFontMetrics.bottom - mFontMetrics.top;
+
+        // calculate the width of the longest text as the width of side bar
+        if (mItemWidths.length != mIndexItems.length) {
+            mItemWidths = new float[mIndexItems.length];
+        }
+        mBarWidth = 0;
+        for (int i = 0; i < mIndexItems.length; i++) {
+            mItemWidths[i] = measureItemWidth(i);
+            mBarWidth = Math.max(mBarWidth, mItemWidths[i]);
+        }
+
+        mMeasuredItems = mIndexItems;
+        mMeasuredTextSize = mTextSize;
+        mMeasuredTypeface = mPaint.getTypeface();
+        mMeasureCacheValid = true;
+    }
+
+    /**
+     * measure only the items which differ from the measured ones, when there are as many
+     * items and the text size and the typeface didn't change
+     */
+    private void measureChangedIndexItems() {
+        mBarWidth = 0;
+        for (int i = 0; i < mIndexItems.length; i++) {
+            if (!mIndexItems[i].equals(mMeasuredItems[i])) {
+                mItemWidths[i] = measureItemWidth(i);
+            }
+            mBarWidth = Math.max(mBarWidth, mItemWidths[i]);
+        }
+        mMeasuredItems = mIndexItems;
+    }
+
+    private float measureItemWidth(int index) {
+        Drawable icon = mIndexItemIcons.isEmpty() ? null : mIndexItemIcons.get(mIndexItems[index]);
+        return (icon != null) ? mTextSize * getIconAspectRatio(icon) : mPaint.measureText(mIndexItems[index]);
     }
 
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
 
-        // draw each item
-        for (int i = 0, mIndexItemsLength = mIndexItems.length; i < mIndexItemsLength; i++) {
-            float baseLineY = mFirstItemBaseLineY + mIndexItemHeight*i;
+        if (mMetrics == null) {
+            drawSideBar(canvas);
+            return;
+        }
+        TraceCompat.beginSection("WaveSideBar#onDraw");
+        long start = System.nanoTime();
+        try {
+            drawSideBar(canvas);
+        } finally {
+            mMetrics.recordDraw(System.nanoTime() - start);
+            TraceCompat.endSection();
+        }
+    }
+
+    private void drawSideBar(Canvas canvas) {
+        if (mGlyphCacheEnabled && mGlyphAtlasDirty) {
+            buildGlyphAtlas();
+        }
+        boolean drawGlyphs = mGlyphCacheEnabled && mGlyphAtlas != null;
+        if (mIconSheetDirty) {
+            buildIconSheet();
+        }
+
+        // the rows are laid out again before the next frame
+        if (!isRowLayoutValid()) {
+            return;
+        }
+        // draw each row, which is an item or a placeholder for collapsed items
+        int rowCount = mLayout.getRowCount();
 
-            // calculate the scale factor of the item to draw
-            float scale = getItemScale(i);
+        // only the rows within the wave radius need to be scaled
+        int waveFirst = 0;
+        int waveLast = -1;
+        // the row at the center of the wave stays opaque while the wave decays
+        int opaqueRow = (mCurrentIndex == -1) ? -1 : mLayout.getRowOfItem(mCurrentIndex);
+        if (mWaveAmplitude > 0 && rowCount > 0) {
+            float reach = mWaveRadius * mIndexItemHeight;
+            waveFirst = mLayout.getRowAt(mWaveY - reach);
+            waveLast = mLayout.getRowAt(mWaveY + reach);
+            if (opaqueRow == -1) {
+                opaqueRow = mLayout.getRowAt(mWaveY);
+            }
+        }
 
-            int alphaScale = (i == mCurrentIndex) ? (255) : (int) (255 * (1-scale));
-            mPaint.setAlpha(alphaScale);
+        // the active row is drawn live in the highlight color
+        int activeRow = (mActiveIndex == -1 || mActiveIndex >= mIndexItems.length || mParentIndexItems != null)
+                ? -1 : mLayout.getRowOfItem(mActiveIndex);
 
-            mPaint.setTextSize(mTextSize + mTextSize*scale);
+        if (mIdleCacheEnabled && mIdleCacheDirty) {
+            buildIdleCache(rowCount, drawGlyphs);
+        }
+        boolean drawIdleCache = mIdleCacheEnabled && mIdleCache != null;
 
-            float baseLineX = 0f;
-            if (mSideBarPosition == POSITION_LEFT) {
-                switch (mTextAlignment) {
-                    case TEXT_ALIGN_CENTER:
-                        baseLineX = getPaddingLeft() + mBarWidth/2 + mMaxOffset*scale;
-                        break;
-                    case TEXT_ALIGN_LEFT:
-                        baseLineX = getPaddingLeft() + mMaxOffset*scale;
-                        break;
-                    case TEXT_ALIGN_RIGHT:
-                        baseLineX = getPaddingLeft() + mBarWidth + mMaxOffset*scale;
-                        break;
-                }
-            } else {
-                switch (mTextAlignment) {
-                    case TEXT_ALIGN_CENTER:
-                        baseLineX = getWidth() - getPaddingRight() - mBarWidth/2 - mMaxOffset*scale;
-                        break;
-                    case TEXT_ALIGN_RIGHT:
-                        baseLineX = getWidth() - getPaddingRight() - mMaxOffset*scale;
-                        break;
-                    case TEXT_ALIGN_LEFT:
-                        baseLineX = getWidth() - getPaddingRight() - mBarWidth - mMaxOffset*scale;
-                        break;
+        // the first row of the rows at rest waiting to be drawn from the idle cache
+        int idleFirst = -1;
+        for (int i = 0; i < rowCount; i++) {
+            boolean inWave = i >= waveFirst && i <= waveLast;
+            if (drawIdleCache && !inWave && i != activeRow) {
+                if (idleFirst == -1) {
+                    idleFirst = i;
                 }
+                continue;
+            }
+            if (idleFirst != -1) {
+                drawIdleItems(canvas, idleFirst, i, rowCount);
+                idleFirst = -1;
             }
 
-            // draw
-            canvas.drawText(
-                    mIndexItems[i], //item text to draw
-                    baseLineX, //baseLine X
-                    baseLineY, // baseLine Y
-                    mPaint);
+            // calculate the scale factor of the row to draw
+            float scale = inWave ? mLayout.getRowScale(i, mWaveY, mWaveAmplitude) : 0;
+
+            int alphaScale = (i == opaqueRow) ? (255) : (int) (255 * (1-scale));
+
+            drawItem(canvas, i, scale, alphaScale, drawGlyphs, i == activeRow);
+        }
+        if (idleFirst != -1) {
+            drawIdleItems(canvas, idleFirst, rowCount, rowCount);
         }
 
         // reset paint
@@ -239,97 +700,779 @@ public class WaveSideBar extends View {
     }
 
     /**
-     * calculate the scale factor of the item to draw
+     * draw a row live
      *
-     * @param index the index of the item in array {@link #mIndexItems}
-     * @return the scale factor of the item to draw
+     * @param row the row, see {@link IndexLayout}
+     * @param scale the scale factor of the row, see {@link IndexLayout#getRowScale(int, float, float)}
+     * @param alpha the alpha of the row
+     * @param drawGlyphs whether to draw the row from {@link #mGlyphAtlas}
+     * @param highlight whether to draw the text in {@link #mHighlightColor}
      */
-    private float getItemScale(int index) {
-        float scale = 0;
-        if (mCurrentIndex != -1) {
-            float distance = Math.abs(mCurrentY - (mIndexItemHeight*index+mIndexItemHeight/2)) / mIndexItemHeight;
-            scale = 1 - distance*distance/16;
-            scale = Math.max(scale, 0);
-        }
-        return scale;
-    }
+    private void drawItem(Canvas canvas, int row, float scale, int alpha, boolean drawGlyphs, boolean highlight) {
+        float baseLineX = mItemBaseLineX[row] + mOffsetSign*mMaxOffset*scale;
+        float baseLineY = mItemBaseLineY[row];
+        boolean placeholder = mLayout.isPlaceholderRow(row);
+        int item = mLayout.getFirstItemOfRow(row);
 
-    @Override
-    public boolean onTouchEvent(MotionEvent event) {
-        if (mIndexItems.length == 0) {
-            return super.onTouchEvent(event);
+        if (!placeholder && mIconSheet != null && item < mItemIcons.length && mItemIcons[item] != -1) {
+            drawIcon(canvas, mItemIcons[item], baseLineX, baseLineY, scale, alpha);
+        } else if (drawGlyphs && !highlight) {
+            // the placeholder is the last glyph of the atlas
+            int glyph = placeholder ? mIndexItems.length : item;
+            drawGlyph(canvas, glyph, baseLineX, baseLineY, scale, alpha);
+        } else {
+            if (highlight) {
+                mPaint.setColor(mHighlightColor);
+            }
+            mPaint.setAlpha(alpha);
+            mPaint.setTextSize(mTextSize + mTextSize*scale);
+            canvas.drawText(
+                    placeholder ? COLLAPSED_ITEMS_PLACEHOLDER : mIndexItems[item], //item text to draw
+                    baseLineX, //baseLine X
+                    baseLineY, // baseLine Y
+                    mPaint);
+            if (highlight) {
+                mPaint.setColor(mTextColor);
+            }
         }
+    }
 
-        float eventY = event.getY();
-        float eventX = event.getX();
-        mCurrentIndex = getSelectedIndex(eventY);
+    /**
+     * draw the rows in [from, to) from {@link #mIdleCache}
+     */
+    private void drawIdleItems(Canvas canvas, int from, int to, int rowCount) {
+        int height = mIdleCache.getHeight();
+        int top = (from == 0) ? 0 : Math.round(mStartTouchingArea.top + mLayout.getRowTop(from)) - mIdleCacheBounds.top;
+        int bottom = (to == rowCount) ? height : Math.round(mStartTouchingArea.top + mLayout.getRowTop(to)) - mIdleCacheBounds.top;
+        top = Math.max(0, Math.min(top, height));
+        bottom = Math.max(top, Math.min(bottom, height));
 
-        switch (event.getAction()) {
-            case MotionEvent.ACTION_DOWN:
-                if (mStartTouchingArea.contains(eventX, eventY)) {
-                    mStartTouching = true;
-                    if (!mLazyRespond && onSelectIndexItemListener != null) {
-                        onSelectIndexItemListener.onSelectIndexItem(mIndexItems[mCurrentIndex]);
-                    }
-                    invalidate();
-                    return true;
-                } else {
-                    mCurrentIndex = -1;
-                    return false;
-                }
+        mIdleCacheSrc.set(0, top, mIdleCache.getWidth(), bottom);
+        mIdleCacheDst.set(mIdleCacheSrc);
+        mIdleCacheDst.offset(mIdleCacheBounds.left, mIdleCacheBounds.top);
+        canvas.drawBitmap(mIdleCache, mIdleCacheSrc, mIdleCacheDst, null);
+    }
 
-            case MotionEvent.ACTION_MOVE:
-                if (mStartTouching && !mLazyRespond && onSelectIndexItemListener != null) {
-                    onSelectIndexItemListener.onSelectIndexItem(mIndexItems[mCurrentIndex]);
-                }
-                invalidate();
-                return true;
+    /**
+     * draw all the rows at rest into {@link #mIdleCache}
+     */
+    private void buildIdleCache(int rowCount, boolean drawGlyphs) {
+        mIdleCacheDirty = false;
+        recycleIdleCache();
 
-            case MotionEvent.ACTION_UP:
-            case MotionEvent.ACTION_CANCEL:
-                if (mLazyRespond && onSelectIndexItemListener != null) {
-                    onSelectIndexItemListener.onSelectIndexItem(mIndexItems[mCurrentIndex]);
-                }
-                mCurrentIndex = -1;
-                mStartTouching = false;
-                invalidate();
-                return true;
+        if (rowCount == 0 || mIdleCacheBounds.isEmpty()) {
+            return;
         }
 
-        return super.onTouchEvent(event);
-    }
-
-    private int getSelectedIndex(float eventY) {
-        mCurrentY = eventY - (getHeight()/2 - mBarHeight /2);
-        if (mCurrentY <= 0) {
-            return 0;
+        mIdleCache = Bitmap.createBitmap(mIdleCacheBounds.width(), mIdleCacheBounds.height(), Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(mIdleCache);
+        canvas.translate(-mIdleCacheBounds.left, -mIdleCacheBounds.top);
+        for (int i = 0; i < rowCount; i++) {
+            drawItem(canvas, i, 0, 255, drawGlyphs, false);
         }
+    }
 
-        int index = (int) (mCurrentY / this.mIndexItemHeight);
-        if (index >= this.mIndexItems.length) {
-            index = this.mIndexItems.length - 1;
+    private void recycleIdleCache() {
+        if (mIdleCache != null) {
+            mIdleCache.recycle();
+            mIdleCache = null;
         }
-        return index;
     }
 
-    private float dp2px(int dp) {
-        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, dp, this.mDisplayMetrics);
-    }
+    /**
+     * draw the glyph of an index item from {@link #mGlyphAtlas}
+     *
+     * @param index the index of the item in array {@link #mIndexItems},
+     *              or its length for {@link #COLLAPSED_ITEMS_PLACEHOLDER}
+     * @param baseLineX baseline X of the item, as it would be passed to {@link Canvas#drawText}
+     * @param baseLineY baseline Y of the item
+     * @param scale the scale factor of the item, see {@link IndexLayout#getRowScale(int, float, float)}
+     * @param alpha the alpha of the item
+     */
+    private void drawGlyph(Canvas canvas, int index, float baseLineX, float baseLineY, float scale, int alpha) {
+        Rect bounds = mGlyphBounds[index];
 
-    private float sp2px(int sp) {
-        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, sp, this.mDisplayMetrics);
-    }
+        // the glyphs are rasterized at the max scale, so that they are only scaled down
+        float factor = (1 + scale) / 2;
+        float width = bounds.width() * factor;
+        float left = baseLineX - width * mAlignFactor;
+        float top = baseLineY - mGlyphBaseLine * factor;
+        mGlyphDrawRect.set(left, top, left + width, top + bounds.height() * factor);
 
-    public void setIndexItems(String... indexItems) {
-        mIndexItems = Arrays.copyOf(indexItems, indexItems.length);
-        requestLayout();
+        mGlyphPaint.setAlpha(alpha);
+        canvas.drawBitmap(mGlyphAtlas, bounds, mGlyphDrawRect, mGlyphPaint);
     }
 
-    public void setTextColor(int color) {
-        mTextColor = color;
-        mPaint.setColor(color);
-        invalidate();
-    }
+    /**
+     * rasterize all the index items and {@link #COLLAPSED_ITEMS_PLACEHOLDER} at the max scale
+     * into {@link #mGlyphAtlas}. If the atlas would be too large, it's left null and
+     * the items are drawn as text.
+     */
+    private void buildGlyphAtlas() {
+        mGlyphAtlasDirty = false;
+        recycleGlyphAtlas();
+
+        if (mIndexItems.length == 0) {
+            return;
+        }
+
+        Paint paint = new Paint(mPaint);
+        paint.setTextAlign(Paint.Align.LEFT);
+        paint.setTextSize(mTextSize * 2);
+        paint.setAlpha(255);
+
+        Paint.FontMetrics fontMetrics = paint.getFontMetrics();
+        int glyphHeight = (int) Math.ceil(fontMetrics.bottom - fontMetrics.top);
+        int glyphCount = mIndexItems.length + 1;
+        int[] glyphWidths = new int[glyphCount];
+        int cellWidth = 1;
+        for (int i = 0; i < glyphCount; i++) {
+            glyphWidths[i] = (int) Math.ceil(paint.measureText(getGlyphText(i)));
+            cellWidth = Math.max(cellWidth, glyphWidths[i] + 1);
+        }
+        int cellHeight = glyphHeight + 1;
+
+        int columns = Math.max(1, Math.min(glyphCount, MAX_GLYPH_ATLAS_WIDTH / cellWidth));
+        int rows = (glyphCount + columns - 1) / columns;
+        if (cellWidth > MAX_GLYPH_ATLAS_WIDTH || rows * cellHeight > MAX_GLYPH_ATLAS_HEIGHT) {
+            return;
+        }
+
+        mGlyphAtlas = Bitmap.createBitmap(columns * cellWidth, rows * cellHeight, Bitmap.Config.ARGB_8888);
+        mGlyphBounds = new Rect[glyphCount];
+        mGlyphBaseLine = -fontMetrics.top;
+
+        Canvas canvas = new Canvas(mGlyphAtlas);
+        for (int i = 0; i < glyphCount; i++) {
+            int left = (i % columns) * cellWidth;
+            int top = (i / columns) * cellHeight;
+            mGlyphBounds[i] = new Rect(left, top, left + glyphWidths[i], top + glyphHeight);
+            canvas.drawText(getGlyphText(i), left, top + mGlyphBaseLine, paint);
+        }
+    }
+
+    /**
+     * draw an icon from {@link #mIconSheet}, as high as the text size
+     * and centered on the text line
+     *
+     * @param icon the index of the icon in {@link #mIconBounds}
+     */
+    private void drawIcon(Canvas canvas, int icon, float baseLineX, float baseLineY, float scale, int alpha) {
+        Rect bounds = mIconBounds[icon];
+
+        // the icons are rasterized at the max scale, so that they are only scaled down
+        float factor = (1 + scale) / 2;
+        float width = bounds.width() * factor;
+        float height = bounds.height() * factor;
+        float left = baseLineX - width * mAlignFactor;
+        float centerY = baseLineY + (mFontMetrics.ascent + mFontMetrics.descent) / 2;
+        mGlyphDrawRect.set(left, centerY - height / 2, left + width, centerY + height / 2);
+
+        mGlyphPaint.setAlpha(alpha);
+        canvas.drawBitmap(mIconSheet, bounds, mGlyphDrawRect, mGlyphPaint);
+    }
+
+    /**
+     * rasterize the icons of the index items at the max scale into {@link #mIconSheet},
+     * packed in rows. If the sheet would be too large, the labels are drawn instead.
+     */
+    private void buildIconSheet() {
+        mIconSheetDirty = false;
+        recycleIconSheet();
+
+        if (mItemIcons.length != mIndexItems.length) {
+            mItemIcons = new int[mIndexItems.length];
+        }
+        Arrays.fill(mItemIcons, -1);
+        if (mIndexItemIcons.isEmpty()) {
+            return;
+        }
+
+        // each icon is rasterized once even if several items share it
+        HashMap<Drawable, Integer> iconIndices = new HashMap<>();
+        Drawable[] icons = new Drawable[mIndexItems.length];
+        for (int i = 0; i < mIndexItems.length; i++) {
+            Drawable icon = mIndexItemIcons.get(mIndexItems[i]);
+            if (icon != null) {
+                Integer index = iconIndices.get(icon);
+                if (index == null) {
+                    index = iconIndices.size();
+                    iconIndices.put(icon, index);
+                    icons[index] = icon;
+                }
+                mItemIcons[i] = index;
+            }
+        }
+        int iconCount = iconIndices.size();
+        if (iconCount == 0) {
+            return;
+        }
+
+        int iconHeight = (int) Math.ceil(mTextSize * 2);
+        Rect[] iconBounds = new Rect[iconCount];
+        int left = 0;
+        int top = 0;
+        int sheetWidth = 1;
+        for (int i = 0; i < iconCount; i++) {
+            int iconWidth = (int) Math.ceil(iconHeight * getIconAspectRatio(icons[i]));
+            if (left > 0 && left + iconWidth > MAX_GLYPH_ATLAS_WIDTH) {
+                left = 0;
+                top += iconHeight + 1;
+            }
+            iconBounds[i] = new Rect(left, top, left + iconWidth, top + iconHeight);
+            left += iconWidth + 1;
+            sheetWidth = Math.max(sheetWidth, left);
+        }
+        int sheetHeight = top + iconHeight;
+        if (sheetWidth > MAX_GLYPH_ATLAS_WIDTH || sheetHeight > MAX_ICON_SHEET_HEIGHT) {
+            Arrays.fill(mItemIcons, -1);
+            return;
+        }
+
+        mIconSheet = Bitmap.createBitmap(sheetWidth, sheetHeight, Bitmap.Config.ARGB_8888);
+        mIconBounds = iconBounds;
+        Canvas canvas = new Canvas(mIconSheet);
+        Rect previousBounds = new Rect();
+        for (int i = 0; i < iconCount; i++) {
+            // the drawable may be shown somewhere else, so its bounds are put back
+            icons[i].copyBounds(previousBounds);
+            icons[i].setBounds(iconBounds[i]);
+            icons[i].draw(canvas);
+            icons[i].setBounds(previousBounds);
+        }
+    }
+
+    private void recycleIconSheet() {
+        if (mIconSheet != null) {
+            mIconSheet.recycle();
+            mIconSheet = null;
+        }
+        mIconBounds = null;
+    }
+
+    /**
+     * @return the width of the icon divided by its height, 1 if it has no intrinsic size
+     */
+    private static float getIconAspectRatio(Drawable icon) {
+        int width = icon.getIntrinsicWidth();
+        int height = icon.getIntrinsicHeight();
+        return (width > 0 && height > 0) ? (float) width / height : 1;
+    }
+
+    private String getGlyphText(int glyph) {
+        return (glyph < mIndexItems.length) ? mIndexItems[glyph] : COLLAPSED_ITEMS_PLACEHOLDER;
+    }
+
+    private void recycleGlyphAtlas() {
+        if (mGlyphAtlas != null) {
+            mGlyphAtlas.recycle();
+            mGlyphAtlas = null;
+        }
+        mGlyphBounds = null;
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        int action = event.getAction();
+        if (mIndexItems.length == 0 || !isRowLayoutValid()) {
+            if (!mStartTouching) {
+                return super.onTouchEvent(event);
+            }
+            // the rows are laid out for other items until the next layout pass,
+            // so the finger can't be resolved to an item, but the gesture still ends
+            if (action == MotionEvent.ACTION_UP || action == MotionEvent.ACTION_CANCEL) {
+                endGesture(false);
+            }
+            return true;
+        }
+
+        // a move may batch several historical samples, but only the newest one
+        // is drawn and selected, the others are only read for the drag velocity
+        float eventY = event.getY();
+        float eventX = event.getX();
+        if (action == MotionEvent.ACTION_DOWN && !mStartTouchingArea.contains(eventX, eventY)) {
+            // a touch out of the bar leaves the finger position alone,
+            // which a decaying wave still moves to
+            return false;
+        }
+        float previousY = mCurrentY;
+        int previousIndex = mCurrentIndex;
+        mCurrentIndex = getSelectedIndex(eventY);
+
+        switch (action) {
+            case MotionEvent.ACTION_DOWN:
+                if (mMetrics != null) {
+                    // the previous gesture ends even if its wave is still decaying
+                    endGestureMetrics(true);
+                    mMetrics.startGesture();
+                }
+                mStartTouching = true;
+                mLastDispatchedIndex = -1;
+                mDragVelocity = 0;
+                mLastDragY = eventY;
+                mLastDragTime = event.getEventTime();
+                if (!mLazyRespond) {
+                    dispatchSelectIndexItem();
+                }
+                scheduleDrillDown();
+                // a new wave rises right under the finger
+                if (mWaveAmplitude == 0) {
+                    mWaveY = mCurrentY;
+                    mWaveVelocity = 0;
+                }
+                moveWave();
+                return true;
+
+            case MotionEvent.ACTION_MOVE:
+                if (mStartTouching) {
+                    for (int i = 0, size = event.getHistorySize(); i < size; i++) {
+                        trackDrag(event.getHistoricalY(i), event.getHistoricalEventTime(i));
+                    }
+                    trackDrag(eventY, event.getEventTime());
+                }
+                if (mStartTouching && !mLazyRespond) {
+                    requestDispatchSelectIndexItem();
+                }
+                if (mStartTouching && mCurrentIndex != previousIndex) {
+                    // the finger has to hold on an item
+                    scheduleDrillDown();
+                }
+                // the wave looks the same if the finger only moves a sub-pixel distance
+                if (mCurrentIndex != previousIndex
+                        || Math.abs(mCurrentY - previousY) >= MIN_INVALIDATE_DISTANCE) {
+                    moveWave();
+                }
+                return true;
+
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL:
+                endGesture(true);
+                return true;
+        }
+
+        return super.onTouchEvent(event);
+    }
+
+    /**
+     * release the wave and show the index items again when the finger is up
+     *
+     * @param dispatch false to drop the selection waiting for the next frame,
+     *                 if it's not one of the index items any more
+     */
+    private void endGesture(boolean dispatch) {
+        if (dispatch) {
+            // deliver the last move before the finger up
+            flushPendingDispatch();
+            if (mLazyRespond) {
+                dispatchSelectIndexItem();
+            }
+        } else {
+            cancelPendingDispatch();
+        }
+        mCurrentIndex = -1;
+        mStartTouching = false;
+        mDragVelocity = 0;
+        removeCallbacks(mDrillDown);
+        restoreParentIndexItems();
+        moveWave();
+        endGestureMetrics(false);
+    }
+
+    private void scheduleDrillDown() {
+        removeCallbacks(mDrillDown);
+        if (mSubIndexProvider != null && mParentIndexItems == null) {
+            postDelayed(mDrillDown, ViewConfiguration.getLongPressTimeout());
+        }
+    }
+
+    /**
+     * show the sub-items of the index item held by the finger instead of the index items
+     */
+    private void drillDown() {
+        if (mSubIndexProvider == null || !mStartTouching || mCurrentIndex < 0
+                || mCurrentIndex >= mIndexItems.length || mParentIndexItems != null) {
+            return;
+        }
+        SectionIndex subIndex = mSubIndexProvider.getSubIndex(mCurrentIndex, mIndexItems[mCurrentIndex]);
+        if (subIndex == null || subIndex.getSections().length == 0) {
+            return;
+        }
+        mParentIndexItems = mIndexItems;
+        mParentSectionStartPositions = mSectionStartPositions;
+        showIndexItems(subIndex.getSections(), true);
+        mSectionStartPositions = subIndex.getSectionStartPositions();
+        if (!layoutNow()) {
+            return;
+        }
+
+        // select the sub-item under the finger
+        mCurrentIndex = getSelectedIndex(mLastDragY);
+        mWaveY = mCurrentY;
+        mWaveVelocity = 0;
+        mLastDispatchedIndex = -1;
+        if (!mLazyRespond) {
+            dispatchSelectIndexItem();
+        }
+        moveWave();
+    }
+
+    /**
+     * show the index items again after {@link #drillDown()}
+     */
+    private void restoreParentIndexItems() {
+        if (mParentIndexItems == null) {
+            return;
+        }
+        String[] parentIndexItems = mParentIndexItems;
+        mParentIndexItems = null;
+        showIndexItems(parentIndexItems, false);
+        mSectionStartPositions = mParentSectionStartPositions;
+        mParentSectionStartPositions = null;
+        layoutNow();
+    }
+
+    /**
+     * lay out the new items at once instead of in the next layout pass,
+     * so that the next touch events already hit them
+     *
+     * @return false if the view has no size yet
+     */
+    private boolean layoutNow() {
+        if (getWidth() == 0 || getHeight() == 0) {
+            return false;
+        }
+        layoutSideBar(getWidth(), getHeight());
+        return true;
+    }
+
+    /**
+     * update {@link #mDragVelocity} with a sample of the finger
+     */
+    private void trackDrag(float y, long time) {
+        long elapsed = time - mLastDragTime;
+        if (elapsed <= 0) {
+            return;
+        }
+        float velocity = (y - mLastDragY) / mIndexItemHeight * 1000 / elapsed;
+        mDragVelocity += (velocity - mDragVelocity) * DRAG_VELOCITY_SMOOTHING;
+        mLastDragY = y;
+        mLastDragTime = time;
+    }
+
+    /**
+     * notify the listeners of the current selected index item,
+     * or in the next frame if {@link #mCoalesceDispatch} is true
+     */
+    private void requestDispatchSelectIndexItem() {
+        if (!mCoalesceDispatch || Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN) {
+            dispatchSelectIndexItem();
+            return;
+        }
+        if (!mDispatchPending) {
+            mDispatchPending = true;
+            if (mFrameDispatcher == null) {
+                mFrameDispatcher = new FrameDispatcher();
+            }
+            mFrameDispatcher.post();
+        }
+    }
+
+    /**
+     * notify the listeners of the selection waiting for the next frame, if there is one
+     */
+    private void flushPendingDispatch() {
+        if (mDispatchPending) {
+            mDispatchPending = false;
+            mFrameDispatcher.cancel();
+            dispatchSelectIndexItem();
+        }
+    }
+
+    /**
+     * drop the selection waiting for the next frame, if there is one
+     */
+    private void cancelPendingDispatch() {
+        if (mDispatchPending) {
+            mDispatchPending = false;
+            mFrameDispatcher.cancel();
+        }
+    }
+
+    /**
+     * notify the listeners of the current selected index item
+     */
+    private void dispatchSelectIndexItem() {
+        if (mCurrentIndex < 0 || mCurrentIndex >= mIndexItems.length) {
+            return;
+        }
+        if (mDispatchOnChange && mCurrentIndex == mLastDispatchedIndex) {
+            mSuppressedDispatchCount++;
+            return;
+        }
+        mLastDispatchedIndex = mCurrentIndex;
+        if (mMetrics != null) {
+            mMetrics.recordDispatch();
+        }
+
+        if (onSelectIndexItemListener != null) {
+            onSelectIndexItemListener.onSelectIndexItem(mIndexItems[mCurrentIndex]);
+        }
+        if (onSelectIndexListener != null) {
+            int position = (mSectionStartPositions != null && mCurrentIndex < mSectionStartPositions.length)
+                    ? mSectionStartPositions[mCurrentIndex] : -1;
+            onSelectIndexListener.onSelectIndex(mCurrentIndex, mIndexItems[mCurrentIndex], position);
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        cancelPendingDispatch();
+        if (mWaveAnimating) {
+            removeCallbacks(mWaveAnimator);
+            mWaveAnimating = false;
+            settleWave();
+        }
+        removeCallbacks(mDrillDown);
+        restoreParentIndexItems();
+        endGestureMetrics(true);
+        // it's drawn again when the view is attached back
+        recycleIdleCache();
+        mIdleCacheDirty = true;
+    }
+
+    /**
+     * move the wave to the finger, or let it decay if the finger is up
+     */
+    private void moveWave() {
+        if (mWaveAnimationEnabled) {
+            if (!mWaveAnimating) {
+                mWaveAnimating = true;
+                mLastWaveFrameTime = AnimationUtils.currentAnimationTimeMillis();
+                ViewCompat.postOnAnimation(this, mWaveAnimator);
+            }
+        } else {
+            float previousY = mWaveY;
+            settleWave();
+            invalidateWave(previousY, mWaveY);
+        }
+    }
+
+    /**
+     * jump to the end of the wave animation
+     */
+    private void settleWave() {
+        mWaveY = mCurrentY;
+        mWaveVelocity = 0;
+        mWaveAmplitude = mStartTouching ? 1 : 0;
+    }
+
+    /**
+     * advance the wave animation to the current frame,
+     * and schedule the next frame until the wave is at rest
+     */
+    private void stepWaveAnimation() {
+        long now = AnimationUtils.currentAnimationTimeMillis();
+        float elapsed = (now - mLastWaveFrameTime) / 1000f;
+        mLastWaveFrameTime = now;
+
+        float previousY = mWaveY;
+        float targetAmplitude = mStartTouching ? 1 : 0;
+
+        // the amplitude approaches its target exponentially
+        float rate = mStartTouching ? WAVE_RISE_RATE : WAVE_DECAY_RATE;
+        mWaveAmplitude += (targetAmplitude - mWaveAmplitude) * (1 - (float) Math.exp(-rate * elapsed));
+
+        // the position follows the finger through a critically damped spring
+        while (elapsed > 0) {
+            float step = Math.min(elapsed, WAVE_MAX_STEP);
+            float acceleration = WAVE_SPRING_FREQUENCY * WAVE_SPRING_FREQUENCY * (mCurrentY - mWaveY)
+                    - 2 * WAVE_SPRING_FREQUENCY * mWaveVelocity;
+            mWaveVelocity += acceleration * step;
+            mWaveY += mWaveVelocity * step;
+            elapsed -= step;
+        }
+
+        boolean atRest = Math.abs(targetAmplitude - mWaveAmplitude) < 0.002f
+                && (targetAmplitude == 0
+                        || (Math.abs(mCurrentY - mWaveY) < MIN_INVALIDATE_DISTANCE
+                                && Math.abs(mWaveVelocity) < WAVE_SPRING_FREQUENCY * MIN_INVALIDATE_DISTANCE));
+        if (atRest) {
+            settleWave();
+            mWaveAnimating = false;
+        } else {
+            ViewCompat.postOnAnimation(this, mWaveAnimator);
+        }
+        invalidateWave(previousY, mWaveY);
+        endGestureMetrics(false);
+    }
+
+    /**
+     * end the gesture of the metrics once the wave is at rest after the finger up,
+     * and pass the metrics to {@link #mOnMetricsListener}
+     *
+     * @param force whether to end it even if the wave is still moving
+     */
+    private void endGestureMetrics(boolean force) {
+        if (mMetrics == null || (!force && (mStartTouching || mWaveAnimating))) {
+            return;
+        }
+        if (mMetrics.endGesture() && mOnMetricsListener != null) {
+            mOnMetricsListener.onGestureMetrics(mMetrics.snapshot());
+        }
+    }
+
+    /**
+     * Invalidate only the region covered by the wave before and after it moves,
+     * the items out of the wave are drawn at scale 0 and never change.
+     *
+     * @param fromY the previous {@link #mWaveY}
+     * @param toY the new {@link #mWaveY}
+     */
+    private void invalidateWave(float fromY, float toY) {
+        // an item grows up to twice its size, so leave one more item height and bar width
+        float top = mStartTouchingArea.top + Math.min(fromY, toY) - (mWaveRadius + 1) * mIndexItemHeight;
+        float bottom = mStartTouchingArea.top + Math.max(fromY, toY) + (mWaveRadius + 1) * mIndexItemHeight;
+        float left, right;
+        if (mSideBarPosition == POSITION_LEFT) {
+            left = 0;
+            right = mStartTouchingArea.right + mMaxOffset + mBarWidth;
+        } else {
+            left = mStartTouchingArea.left - mMaxOffset - mBarWidth;
+            right = getWidth();
+        }
+        mWaveBounds.set(left, top, right, bottom);
+        mWaveBounds.roundOut(mDirtyRect);
+        invalidate(mDirtyRect);
+        if (mMetrics != null && mMetrics.isInGesture()) {
+            mMetrics.recordInvalidation();
+        }
+    }
+
+    /**
+     * invalidate the row of an item at rest
+     */
+    private void invalidateItem(int index) {
+        if (index == -1 || index >= mIndexItems.length || !isRowLayoutValid()) {
+            return;
+        }
+        int row = mLayout.getRowOfItem(index);
+        int top = (int) Math.floor(mStartTouchingArea.top + mLayout.getRowTop(row));
+        int bottom = (int) Math.ceil(mStartTouchingArea.top + mLayout.getRowTop(row + 1));
+        invalidate(0, top, getWidth(), bottom);
+    }
+
+    private int getSelectedIndex(float eventY) {
+        mCurrentY = eventY - (getHeight()/2 - mBarHeight /2);
+        return mLayout.getItemAt(mCurrentY);
+    }
+
+    private float dp2px(int dp) {
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, dp, this.mDisplayMetrics);
+    }
+
+    private float sp2px(int sp) {
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, sp, this.mDisplayMetrics);
+    }
+
+    /**
+     * @return the index items set to the side bar, even while it shows the sub-items of one of them
+     */
+    public String[] getIndexItems() {
+        String[] indexItems = (mParentIndexItems != null) ? mParentIndexItems : mIndexItems;
+        return Arrays.copyOf(indexItems, indexItems.length);
+    }
+
+    /**
+     * @return the speed of the finger along the bar in items per second, positive towards
+     * the last item and negative towards the first one, or 0 if the finger is up
+     */
+    public float getDragVelocity() {
+        return mDragVelocity;
+    }
+
+    /**
+     * @return 1 if the finger moves towards the last item, -1 towards the first one, or 0
+     */
+    public int getDragDirection() {
+        return (mDragVelocity > 0) ? 1 : (mDragVelocity < 0) ? -1 : 0;
+    }
+
+    /**
+     * @return true while the side bar shows the sub-items of the index item held by the finger,
+     * then the listeners get the indices of the sub-items
+     * @see #setSubIndexProvider(SubIndexProvider)
+     */
+    public boolean isDrilledDown() {
+        return mParentIndexItems != null;
+    }
+
+    public int getIndexItemCount() {
+        return (mParentIndexItems != null) ? mParentIndexItems.length : mIndexItems.length;
+    }
+
+    /**
+     * Set the index items. Nothing happens if they are the same as the current ones,
+     * and the side bar is only laid out again if their number or the width of the bar changes.
+     */
+    public void setIndexItems(String... indexItems) {
+        setIndexItems(indexItems, true);
+    }
+
+    /**
+     * @param copy false to keep the array instead of a copy of it,
+     *             then the array must not be changed afterwards
+     */
+    public void setIndexItems(String[] indexItems, boolean copy) {
+        if (mParentIndexItems != null) {
+            // shown when the finger up
+            mParentIndexItems = copy ? Arrays.copyOf(indexItems, indexItems.length) : indexItems;
+            return;
+        }
+        showIndexItems(indexItems, copy);
+    }
+
+    private void showIndexItems(String[] indexItems, boolean copy) {
+        int hash = Arrays.hashCode(indexItems);
+        if (hash == mIndexItemsHash && Arrays.equals(indexItems, mIndexItems)) {
+            return;
+        }
+
+        if (mStartTouching) {
+            // the selection is an index in the previous items, the finger selects
+            // one of the new items on its next move
+            cancelPendingDispatch();
+            mCurrentIndex = -1;
+            mLastDispatchedIndex = -1;
+        }
+
+        float previousBarWidth = mBarWidth;
+        mIndexItems = copy ? Arrays.copyOf(indexItems, indexItems.length) : indexItems;
+        mIndexItemsHash = hash;
+        mGlyphAtlasDirty = true;
+        mIconSheetDirty = true;
+        mIdleCacheDirty = true;
+
+        // with as many items and the same bar width, the layout stays the same
+        if (mMeasureCacheValid && mMeasuredItems.length == indexItems.length
+                && mMeasuredTextSize == mTextSize && mMeasuredTypeface == mPaint.getTypeface()) {
+            measureChangedIndexItems();
+            if (mBarWidth == previousBarWidth) {
+                invalidate();
+                return;
+            }
+        }
+        mMeasureCacheValid = false;
+        requestLayout();
+    }
+
+    public void setTextColor(int color) {
+        mTextColor = color;
+        mPaint.setColor(color);
+        mGlyphAtlasDirty = true;
+        mIdleCacheDirty = true;
+        invalidate();
+    }
 
     public void setPosition(int position) {
         if (position != POSITION_RIGHT && position != POSITION_LEFT) {
@@ -337,6 +1480,7 @@ public class WaveSideBar extends View {
         }
 
         mSideBarPosition = position;
+        mIdleCacheDirty = true;
         requestLayout();
     }
 
@@ -349,6 +1493,63 @@ public class WaveSideBar extends View {
         mLazyRespond = lazyRespond;
     }
 
+    /**
+     * Set whether the wave follows the finger through a spring and decays smoothly
+     * after the finger up. If false, the wave jumps to the finger and disappears at once.
+     */
+    public void setWaveAnimationEnabled(boolean enabled) {
+        mWaveAnimationEnabled = enabled;
+        if (!enabled && mWaveAnimating) {
+            removeCallbacks(mWaveAnimator);
+            mWaveAnimating = false;
+            moveWave();
+        }
+    }
+
+    /**
+     * Set whether the items at rest are drawn once into a cached bitmap and replayed
+     * from it, so that only the items in the wave are drawn on each frame.
+     * It costs a bitmap as large as the bar, allocated on the first draw.
+     */
+    public void setIdleCacheEnabled(boolean enabled) {
+        if (mIdleCacheEnabled == enabled) {
+            return;
+        }
+        mIdleCacheEnabled = enabled;
+        if (!enabled) {
+            recycleIdleCache();
+        }
+        mIdleCacheDirty = true;
+        invalidate();
+    }
+
+    /**
+     * Set whether the listeners are only called when the selected index item changes.
+     */
+    public void setDispatchOnChange(boolean dispatchOnChange) {
+        mDispatchOnChange = dispatchOnChange;
+    }
+
+    /**
+     * @return the number of calls to the listeners skipped since the selected
+     * index item didn't change, see {@link #setDispatchOnChange(boolean)}
+     */
+    public long getSuppressedDispatchCount() {
+        return mSuppressedDispatchCount;
+    }
+
+    /**
+     * Set whether the selections of the moves are delivered to the listeners
+     * at most once per frame, with the latest selected index item.
+     * It takes effect on API 16 and above.
+     */
+    public void setCoalesceDispatch(boolean coalesceDispatch) {
+        if (!coalesceDispatch) {
+            flushPendingDispatch();
+        }
+        mCoalesceDispatch = coalesceDispatch;
+    }
+
     public void setTextAlign(int align) {
         if (mTextAlignment == align) {
             return;
@@ -362,7 +1563,8 @@ public class WaveSideBar extends View {
                         "the alignment must be TEXT_ALIGN_CENTER, TEXT_ALIGN_LEFT or TEXT_ALIGN_RIGHT");
         }
         mTextAlignment = align;
-        invalidate();
+        mIdleCacheDirty = true;
+        requestLayout();
     }
 
     public void setTextSize(float size) {
@@ -371,14 +1573,283 @@ public class WaveSideBar extends View {
         }
         mTextSize = size;
         mPaint.setTextSize(size);
+        mMeasureCacheValid = false;
+        mGlyphAtlasDirty = true;
+        mIconSheetDirty = true;
+        mIdleCacheDirty = true;
+        requestLayout();
         invalidate();
     }
 
+    public void setTypeface(Typeface typeface) {
+        if (mPaint.getTypeface() == typeface) {
+            return;
+        }
+        mPaint.setTypeface(typeface);
+        mMeasureCacheValid = false;
+        mGlyphAtlasDirty = true;
+        mIdleCacheDirty = true;
+        requestLayout();
+        invalidate();
+    }
+
+    /**
+     * Set the radius of the wave.
+     *
+     * @param radius the number of items on each side of the finger that are scaled
+     */
+    public void setWaveRadius(float radius) {
+        if (radius <= 0) {
+            throw new IllegalArgumentException("the wave radius must be positive");
+        }
+        mWaveRadius = radius;
+        mLayout.setWave(mWaveRadius, mWaveCurve);
+        invalidate();
+    }
+
+    public void setWaveCurve(int curve) {
+        if (curve != WAVE_CURVE_QUADRATIC && curve != WAVE_CURVE_LINEAR && curve != WAVE_CURVE_COSINE) {
+            throw new IllegalArgumentException(
+                    "the curve must be WAVE_CURVE_QUADRATIC, WAVE_CURVE_LINEAR or WAVE_CURVE_COSINE");
+        }
+        mWaveCurve = curve;
+        mLayout.setWave(mWaveRadius, mWaveCurve);
+        invalidate();
+    }
+
+    /**
+     * Draw an icon, such as a star for the favorites, instead of the text of an index item.
+     * The icon is as high as the text and rasterized once, so it's not drawn again
+     * as the wave moves. Call it again if the drawable changes.
+     *
+     * @param indexItem the index item, the listeners still get it when the icon is selected
+     * @param icon the icon, or null to draw the text again
+     */
+    public void setIndexItemIcon(String indexItem, Drawable icon) {
+        if (icon == null) {
+            mIndexItemIcons.remove(indexItem);
+        } else {
+            mIndexItemIcons.put(indexItem, icon);
+        }
+        mMeasureCacheValid = false;
+        mIconSheetDirty = true;
+        mIdleCacheDirty = true;
+        requestLayout();
+        invalidate();
+    }
+
+    /**
+     * Mark an index item as the current section without a touch, such as the section
+     * of the first visible item of a list. It's drawn in the highlight color, and only
+     * its row is redrawn when it changes.
+     *
+     * @param index the index of the item in the index items, or -1 for none
+     * @see SectionScrollTracker
+     */
+    public void setActiveIndex(int index) {
+        if (index < -1 || index >= getIndexItemCount()) {
+            throw new IllegalArgumentException("the index " + index + " is out of the "
+                    + getIndexItemCount() + " index items");
+        }
+        if (index == mActiveIndex) {
+            return;
+        }
+        int previousIndex = mActiveIndex;
+        mActiveIndex = index;
+        if (mParentIndexItems != null) {
+            // it's not drawn over the sub-items
+            return;
+        }
+        invalidateItem(previousIndex);
+        invalidateItem(index);
+    }
+
+    /**
+     * @return the index of the item marked by {@link #setActiveIndex(int)}, or -1
+     */
+    public int getActiveIndex() {
+        return mActiveIndex;
+    }
+
+    public void setHighlightColor(int color) {
+        mHighlightColor = color;
+        invalidateItem(mActiveIndex);
+    }
+
+    /**
+     * Set the height of each index item, such as 2 for an item as high as two lines of text,
+     * to make room for long labels or to space groups of items apart.
+     *
+     * @param weights the height of each index item in lines of text, or null for 1 line each.
+     *                The items without a weight are 1 line high.
+     */
+    public void setIndexItemWeights(float... weights) {
+        if (weights != null) {
+            for (float weight : weights) {
+                if (!(weight > 0)) {
+                    throw new IllegalArgumentException("the weight of an item must be positive");
+                }
+            }
+            weights = Arrays.copyOf(weights, weights.length);
+        }
+        mIndexItemWeights = weights;
+        mIdleCacheDirty = true;
+        requestLayout();
+    }
+
+    /**
+     * @param adaptiveCollapse if true and the items don't fit the height of the view,
+     *                         the items between the shown ones are collapsed into "•" rows
+     */
+    public void setAdaptiveCollapse(boolean adaptiveCollapse) {
+        mAdaptiveCollapse = adaptiveCollapse;
+        mIdleCacheDirty = true;
+        requestLayout();
+    }
+
+    /**
+     * Set whether the index items are drawn from a pre-rendered glyph atlas.
+     * It saves the text rasterization on every frame, at the cost of a bitmap
+     * holding all the index items at their max scale.
+     */
+    public void setGlyphCacheEnabled(boolean enabled) {
+        if (mGlyphCacheEnabled == enabled) {
+            return;
+        }
+        mGlyphCacheEnabled = enabled;
+        if (!enabled) {
+            recycleGlyphAtlas();
+        }
+        mGlyphAtlasDirty = true;
+        mIdleCacheDirty = true;
+        invalidate();
+    }
+
+    /**
+     * Record the time spent in {@link #onDraw(Canvas)} and {@link #onMeasure(int, int)},
+     * and the calls to the listeners and the invalidations of each gesture.
+     * The draws and measures are traced as well, see {@link TraceCompat}.
+     * Recording allocates nothing, so it can stay enabled in release builds.
+     *
+     * @param enabled false to stop recording and drop the metrics
+     */
+    public void setMetricsEnabled(boolean enabled) {
+        if (enabled && mMetrics == null) {
+            mMetrics = new MetricsRecorder();
+        } else if (!enabled) {
+            mMetrics = null;
+        }
+    }
+
+    /**
+     * @return a snapshot of the metrics recorded, or null if they are not enabled
+     */
+    public WaveSideBarMetrics getMetrics() {
+        return (mMetrics == null) ? null : mMetrics.snapshot();
+    }
+
+    /**
+     * drop the metrics recorded so far
+     */
+    public void resetMetrics() {
+        if (mMetrics != null) {
+            mMetrics = new MetricsRecorder();
+        }
+    }
+
+    /**
+     * @param listener notified of the metrics at the end of every gesture
+     */
+    public void setOnMetricsListener(OnMetricsListener listener) {
+        mOnMetricsListener = listener;
+    }
+
     public void setOnSelectIndexItemListener(OnSelectIndexItemListener onSelectIndexItemListener) {
         this.onSelectIndexItemListener = onSelectIndexItemListener;
     }
 
+    public void setOnSelectIndexListener(OnSelectIndexListener onSelectIndexListener) {
+        this.onSelectIndexListener = onSelectIndexListener;
+    }
+
+    /**
+     * Attach the adapter position of the first item of each section, so that
+     * {@link OnSelectIndexListener} gets the scroll target without any lookup.
+     * The array is not copied.
+     *
+     * @param sectionStartPositions the start position of the section of each index item,
+     *                              or null to detach them
+     */
+    public void setSectionStartPositions(int[] sectionStartPositions) {
+        if (mParentIndexItems != null) {
+            mParentSectionStartPositions = sectionStartPositions;
+            return;
+        }
+        mSectionStartPositions = sectionStartPositions;
+    }
+
+    /**
+     * Drill down into an index item when the finger holds on it for a long press: the side bar
+     * shows its sub-items until the finger up, and the listeners get the selected sub-item
+     * with the start position of its sub-section.
+     *
+     * @param provider gives the sub-items, such as a {@link PrefixTrie}, or null not to drill down
+     */
+    public void setSubIndexProvider(SubIndexProvider provider) {
+        mSubIndexProvider = provider;
+        // the long press of the held finger was for the previous provider
+        removeCallbacks(mDrillDown);
+    }
+
+    /**
+     * delivers the pending selection on the next vsync
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private class FrameDispatcher implements Choreographer.FrameCallback {
+        void post() {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        void cancel() {
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            if (mDispatchPending) {
+                mDispatchPending = false;
+                dispatchSelectIndexItem();
+            }
+        }
+    }
+
     public interface OnSelectIndexItemListener {
         void onSelectIndexItem(String index);
     }
+
+    public interface OnSelectIndexListener {
+        /**
+         * @param index the index of the selected item in the index items
+         * @param indexItem the selected index item
+         * @param position the start position of the section, see {@link #setSectionStartPositions(int[])},
+         *                 or -1 if it's not attached
+         */
+        void onSelectIndex(int index, String indexItem, int position);
+    }
+
+    public interface SubIndexProvider {
+        /**
+         * @param index the index of the index item held by the finger
+         * @param indexItem the index item held by the finger
+         * @return its sub-items and the start positions of their sections, or null not to drill down
+         */
+        SectionIndex getSubIndex(int index, String indexItem);
+    }
+
+    public interface OnMetricsListener {
+        /**
+         * @param metrics all the metrics recorded, called when a gesture ends
+         */
+        void onGestureMetrics(WaveSideBarMetrics metrics);
+    }
 }
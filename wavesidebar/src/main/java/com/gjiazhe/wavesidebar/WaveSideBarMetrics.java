@@ -0,0 +1,127 @@
+package com.gjiazhe.wavesidebar;
+
+/**
+ * A snapshot of what a {@link WaveSideBar} has cost since its metrics were enabled or reset,
+ * see {@link WaveSideBar#setMetricsEnabled(boolean)}. A gesture lasts from the finger down
+ * until the wave is at rest after the finger up. All the durations are in nanoseconds.
+ */
+public class WaveSideBarMetrics {
+    /**
+     * the upper bound of each bucket of {@link #getDrawTimeHistogram()} but the last one,
+     * which has no upper bound
+     */
+    private static final long[] DRAW_TIME_BUCKET_BOUNDS = {250000, 500000, 1000000, 2000000,
+            4000000, 8000000, 16000000};
+
+    long mDrawCount;
+    long mTotalDrawTime;
+    long mMaxDrawTime;
+    int[] mDrawTimeHistogram;
+    long[] mRecentDrawTimes;
+
+    long mMeasureCount;
+    long mTotalMeasureTime;
+    long mMaxMeasureTime;
+
+    long mGestureCount;
+    int[] mRecentGestureDispatches;
+    int[] mRecentGestureInvalidations;
+
+    WaveSideBarMetrics() {
+    }
+
+    /**
+     * @return the number of buckets of {@link #getDrawTimeHistogram()}
+     */
+    public static int getDrawTimeBucketCount() {
+        return DRAW_TIME_BUCKET_BOUNDS.length + 1;
+    }
+
+    /**
+     * @return the exclusive upper bound of the bucket, or Long.MAX_VALUE for the last bucket
+     */
+    public static long getDrawTimeBucketUpperBound(int bucket) {
+        return (bucket < DRAW_TIME_BUCKET_BOUNDS.length) ? DRAW_TIME_BUCKET_BOUNDS[bucket] : Long.MAX_VALUE;
+    }
+
+    static int getDrawTimeBucket(long drawTime) {
+        int bucket = 0;
+        while (bucket < DRAW_TIME_BUCKET_BOUNDS.length && drawTime >= DRAW_TIME_BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    public long getDrawCount() {
+        return mDrawCount;
+    }
+
+    public long getTotalDrawTime() {
+        return mTotalDrawTime;
+    }
+
+    public long getMaxDrawTime() {
+        return mMaxDrawTime;
+    }
+
+    public long getAverageDrawTime() {
+        return (mDrawCount == 0) ? 0 : mTotalDrawTime / mDrawCount;
+    }
+
+    /**
+     * @return the number of draws in each bucket, see {@link #getDrawTimeBucketUpperBound(int)}
+     */
+    public int[] getDrawTimeHistogram() {
+        return mDrawTimeHistogram;
+    }
+
+    /**
+     * @return the durations of the latest draws, the oldest first
+     */
+    public long[] getRecentDrawTimes() {
+        return mRecentDrawTimes;
+    }
+
+    public long getMeasureCount() {
+        return mMeasureCount;
+    }
+
+    public long getTotalMeasureTime() {
+        return mTotalMeasureTime;
+    }
+
+    public long getMaxMeasureTime() {
+        return mMaxMeasureTime;
+    }
+
+    /**
+     * @return the number of gestures ended
+     */
+    public long getGestureCount() {
+        return mGestureCount;
+    }
+
+    /**
+     * @return the number of calls to the listeners in each of the latest gestures, the oldest first
+     */
+    public int[] getRecentGestureDispatches() {
+        return mRecentGestureDispatches;
+    }
+
+    /**
+     * @return the number of invalidations in each of the latest gestures, the oldest first
+     */
+    public int[] getRecentGestureInvalidations() {
+        return mRecentGestureInvalidations;
+    }
+
+    @Override
+    public String toString() {
+        return "WaveSideBarMetrics{draws=" + mDrawCount
+                + ", averageDrawTime=" + getAverageDrawTime()
+                + ", maxDrawTime=" + mMaxDrawTime
+                + ", measures=" + mMeasureCount
+                + ", totalMeasureTime=" + mTotalMeasureTime
+                + ", gestures=" + mGestureCount + "}";
+    }
+}
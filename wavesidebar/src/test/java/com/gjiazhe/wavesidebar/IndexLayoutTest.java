@@ -0,0 +1,172 @@
+package com.gjiazhe.wavesidebar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IndexLayoutTest {
+    private static final float ITEM_HEIGHT = 10;
+
+    private IndexLayout layout;
+
+    @Before
+    public void setUp() {
+        layout = new IndexLayout();
+    }
+
+    @Test
+    public void eachItemHasARowWithoutCollapsing() {
+        layout.layoutRows(26, null, ITEM_HEIGHT, 100, false);
+
+        assertEquals(26, layout.getRowCount());
+        assertEquals(26, layout.getItemCount());
+        assertEquals(260, layout.getBarHeight(), 0);
+        for (int row = 0; row < 26; row++) {
+            assertEquals(row, layout.getFirstItemOfRow(row));
+            assertEquals(row * ITEM_HEIGHT, layout.getRowTop(row), 0);
+            assertFalse(layout.isPlaceholderRow(row));
+        }
+    }
+
+    @Test
+    public void touchesResolveToTheItemUnderThem() {
+        layout.layoutRows(26, null, ITEM_HEIGHT, 100, false);
+
+        assertEquals(0, layout.getItemAt(5));
+        assertEquals(1, layout.getItemAt(10));
+        assertEquals(1, layout.getItemAt(19.9f));
+        assertEquals(25, layout.getItemAt(255));
+        assertEquals(12, layout.getRowAt(125));
+    }
+
+    @Test
+    public void touchesOutOfTheBarAreClamped() {
+        layout.layoutRows(26, null, ITEM_HEIGHT, 100, false);
+
+        assertEquals(0, layout.getItemAt(-50));
+        assertEquals(25, layout.getItemAt(1000));
+        assertEquals(0, layout.getRowAt(-50));
+        assertEquals(25, layout.getRowAt(1000));
+    }
+
+    @Test
+    public void collapsedItemsFitTheAvailableHeight() {
+        layout.layoutRows(26, null, ITEM_HEIGHT, 95, true);
+
+        assertTrue(layout.getRowCount() <= 9);
+        assertTrue(layout.getBarHeight() <= 95);
+        assertEquals(26, layout.getItemCount());
+        // the first and the last items are shown
+        assertEquals(0, layout.getFirstItemOfRow(0));
+        assertFalse(layout.isPlaceholderRow(0));
+        assertEquals(25, layout.getFirstItemOfRow(layout.getRowCount() - 1));
+        assertFalse(layout.isPlaceholderRow(layout.getRowCount() - 1));
+        // the shown items and the placeholders alternate
+        for (int row = 0; row < layout.getRowCount(); row++) {
+            assertEquals(row % 2 == 1, layout.isPlaceholderRow(row));
+        }
+    }
+
+    @Test
+    public void everyCollapsedItemCanBeReachedInOrder() {
+        layout.layoutRows(26, null, ITEM_HEIGHT, 95, true);
+
+        Set<Integer> reached = new HashSet<>();
+        int lastItem = 0;
+        for (float y = 0; y < layout.getBarHeight(); y += 0.1f) {
+            int item = layout.getItemAt(y);
+            assertTrue(item >= lastItem);
+            reached.add(item);
+            lastItem = item;
+        }
+        assertEquals(26, reached.size());
+    }
+
+    @Test
+    public void aHiddenItemMapsToItsPlaceholderRow() {
+        layout.layoutRows(26, null, ITEM_HEIGHT, 95, true);
+
+        int row = layout.getRowOfItem(1);
+        assertTrue(layout.isPlaceholderRow(row));
+        assertEquals(1, layout.getFirstItemOfRow(row));
+        assertEquals(0, layout.getRowOfItem(0));
+    }
+
+    @Test
+    public void itemsFittingTheHeightAreNotCollapsed() {
+        layout.layoutRows(5, null, ITEM_HEIGHT, 100, true);
+
+        assertEquals(5, layout.getRowCount());
+        assertEquals(50, layout.getBarHeight(), 0);
+    }
+
+    @Test
+    public void weightsSetTheHeightOfTheRows() {
+        layout.layoutRows(4, new float[]{2, 1, 3}, ITEM_HEIGHT, 100, false);
+
+        assertEquals(0, layout.getRowTop(0), 0);
+        assertEquals(20, layout.getRowTop(1), 0);
+        assertEquals(30, layout.getRowTop(2), 0);
+        assertEquals(60, layout.getRowTop(3), 0);
+        // the item without a weight is 1 line high
+        assertEquals(70, layout.getBarHeight(), 0);
+        assertEquals(0, layout.getItemAt(19));
+        assertEquals(2, layout.getItemAt(45));
+    }
+
+    @Test
+    public void baseLinesAreCenteredInTheirRows() {
+        layout.layoutRows(3, new float[]{1, 3, 1}, ITEM_HEIGHT, 100, false);
+        float[] baseLinesY = new float[3];
+
+        layout.fillBaseLinesY(baseLinesY, 8, ITEM_HEIGHT);
+
+        assertEquals(8, baseLinesY[0], 0);
+        assertEquals(28, baseLinesY[1], 0);
+        assertEquals(48, baseLinesY[2], 0);
+    }
+
+    @Test
+    public void theWaveIsHighestAtTheFinger() {
+        layout.layoutRows(26, null, ITEM_HEIGHT, 100, false);
+        layout.setWave(4, IndexLayout.WAVE_CURVE_QUADRATIC);
+
+        float waveY = layout.getRowTop(10) + ITEM_HEIGHT / 2;
+        assertEquals(1, layout.getRowScale(10, waveY, 1), 0.0001f);
+        assertEquals(0.5f, layout.getRowScale(10, waveY, 0.5f), 0.0001f);
+        assertTrue(layout.getRowScale(11, waveY, 1) < 1);
+        assertTrue(layout.getRowScale(12, waveY, 1) < layout.getRowScale(11, waveY, 1));
+        assertEquals(layout.getRowScale(9, waveY, 1), layout.getRowScale(11, waveY, 1), 0.0001f);
+        // out of the radius
+        assertEquals(0, layout.getRowScale(15, waveY, 1), 0);
+        assertEquals(0, layout.getRowScale(10, waveY, 0), 0);
+    }
+
+    @Test
+    public void theWaveCurvesFallOffDifferently() {
+        layout.layoutRows(26, null, ITEM_HEIGHT, 100, false);
+        float waveY = layout.getRowTop(10) + ITEM_HEIGHT / 2;
+
+        layout.setWave(4, IndexLayout.WAVE_CURVE_LINEAR);
+        assertEquals(0.5f, layout.getRowScale(12, waveY, 1), 0.0001f);
+        layout.setWave(4, IndexLayout.WAVE_CURVE_QUADRATIC);
+        assertEquals(0.75f, layout.getRowScale(12, waveY, 1), 0.0001f);
+        layout.setWave(4, IndexLayout.WAVE_CURVE_COSINE);
+        assertEquals(0.5f, layout.getRowScale(12, waveY, 1), 0.0001f);
+    }
+
+    @Test
+    public void noItemsMakeAnEmptyBar() {
+        layout.layoutRows(0, null, ITEM_HEIGHT, 100, true);
+
+        assertEquals(0, layout.getRowCount());
+        assertEquals(0, layout.getItemCount());
+        assertEquals(0, layout.getBarHeight(), 0);
+    }
+}
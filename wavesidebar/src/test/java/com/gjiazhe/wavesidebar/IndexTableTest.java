@@ -0,0 +1,106 @@
+package com.gjiazhe.wavesidebar;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class IndexTableTest {
+    private static final SectionIndexLoader.KeyExtractor<String> KEYS =
+            new SectionIndexLoader.KeyExtractor<String>() {
+                @Override
+                public CharSequence getKey(String item) {
+                    return item;
+                }
+            };
+
+    @Test
+    public void latinLettersAreFoldedToTheirBaseLetter() {
+        IndexTable table = IndexTable.forLocale(Locale.ENGLISH);
+
+        assertEquals("A", table.labelOf("alice"));
+        assertEquals("E", table.labelOf("Élodie"));
+        assertEquals("N", table.labelOf("ñandú"));
+        assertEquals("A", table.labelOf("Ångström"));
+        assertEquals("O", table.labelOf("Øyvind"));
+        assertEquals("S", table.labelOf("ßtraße"));
+        assertEquals("L", table.labelOf("Łukasz"));
+    }
+
+    @Test
+    public void anythingElseIsInTheLastBucket() {
+        IndexTable table = IndexTable.forLocale(Locale.ENGLISH);
+
+        assertEquals(IndexLabels.OTHERS, table.labelOf("42"));
+        assertEquals(IndexLabels.OTHERS, table.labelOf(""));
+        assertEquals(IndexLabels.OTHERS, table.labelOf(null));
+        String[] buckets = table.getBuckets();
+        assertEquals(IndexLabels.OTHERS, buckets[buckets.length - 1]);
+    }
+
+    @Test
+    public void chineseCharactersGoToTheirPinyinInitial() {
+        IndexTable table = IndexTable.forLocale(Locale.CHINESE);
+
+        assertEquals("B", table.labelOf("白虎"));
+        assertEquals("C", table.labelOf("常羲"));
+        assertEquals("N", table.labelOf("哪吒"));
+        assertEquals("Z", table.labelOf("祝融"));
+        assertEquals("A", table.labelOf("Alice"));
+    }
+
+    @Test
+    public void chineseCharactersOutOfGb2312Level1HaveAnInitial() {
+        IndexTable table = IndexTable.forLocale(Locale.CHINESE);
+
+        assertEquals("C", table.labelOf("嫦娥"));
+        assertEquals("X", table.labelOf("羲和"));
+        // a character of GBK only
+        assertEquals("Y", table.labelOf("堉"));
+    }
+
+    @Test
+    public void theSampleChineseNamesBuildSortedSections() {
+        SectionIndex sectionIndex = IndexTable.forLocale(Locale.CHINESE).build(Arrays.asList(
+                "白虎", "常羲", "嫦娥", "二郎神", "伏羲", "观世音", "精卫", "夸父", "女娲", "哪吒",
+                "盘古", "青龙", "如来", "孙悟空", "沙僧", "顺风耳", "太白金星", "太上老君", "羲和",
+                "玄武", "猪八戒", "朱雀", "祝融"), KEYS);
+
+        assertArrayEquals(new String[]{"B", "C", "E", "F", "G", "J", "K", "N", "P", "Q", "R", "S",
+                "T", "X", "Z"}, sectionIndex.getSections());
+        assertArrayEquals(new int[]{0, 1, 3, 4, 5, 6, 7, 8, 10, 11, 12, 13, 16, 18, 20},
+                sectionIndex.getSectionStartPositions());
+    }
+
+    @Test
+    public void kanaGoToTheirRow() {
+        IndexTable table = IndexTable.forLocale(Locale.JAPANESE);
+
+        assertEquals("あ", table.labelOf("いぬ"));
+        assertEquals("あ", table.labelOf("ヴァイオリン"));
+        assertEquals("か", table.labelOf("ガンダム"));
+        assertEquals("か", table.labelOf("ゖ"));
+        assertEquals("さ", table.labelOf("シノ"));
+        assertEquals("わ", table.labelOf("ヺ"));
+        assertEquals("わ", table.labelOf("ん"));
+        assertEquals("Z", table.labelOf("Zoro"));
+    }
+
+    @Test
+    public void buildKeepsTheNonEmptyBuckets() {
+        SectionIndex sectionIndex = IndexTable.forLocale(Locale.ENGLISH).build(
+                Arrays.asList("Adam", "Amy", "Émile", "Eva", "Zed", "123"), KEYS);
+
+        assertArrayEquals(new String[]{"A", "E", "Z", "#"}, sectionIndex.getSections());
+        assertArrayEquals(new int[]{0, 2, 4, 5}, sectionIndex.getSectionStartPositions());
+        assertEquals(6, sectionIndex.getItemCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void buildNeedsTheItemsInTheOrderOfTheBuckets() {
+        IndexTable.forLocale(Locale.ENGLISH).build(Arrays.asList("Bob", "Adam"), KEYS);
+    }
+}
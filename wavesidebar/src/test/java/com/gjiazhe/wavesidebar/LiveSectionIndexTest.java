@@ -0,0 +1,168 @@
+package com.gjiazhe.wavesidebar;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class LiveSectionIndexTest {
+    private static final String[] SECTIONS = {"A", "B", "C", "D"};
+
+    @Test
+    public void positionsAreTheCountsBefore() {
+        LiveSectionIndex index = new LiveSectionIndex(SECTIONS, new int[]{2, 3, 1, 4});
+
+        assertEquals(10, index.getItemCount());
+        assertEquals(0, index.getPositionForSection(0));
+        assertEquals(2, index.getPositionForSection(1));
+        assertEquals(5, index.getPositionForSection(2));
+        assertEquals(6, index.getPositionForSection(3));
+        assertEquals(0, index.getSectionForPosition(1));
+        assertEquals(1, index.getSectionForPosition(2));
+        assertEquals(1, index.getSectionForPosition(4));
+        assertEquals(2, index.getSectionForPosition(5));
+        assertEquals(3, index.getSectionForPosition(9));
+    }
+
+    @Test
+    public void emptySectionsAreHidden() {
+        LiveSectionIndex index = new LiveSectionIndex(SECTIONS, new int[]{2, 0, 1, 0});
+
+        assertArrayEquals(new String[]{"A", "C"}, index.getSections());
+        assertEquals(2, index.getPositionForSection(1));
+        assertEquals(1, index.getSectionForPosition(2));
+    }
+
+    @Test
+    public void insertingIntoAnEmptySectionShowsIt() {
+        LiveSectionIndex index = new LiveSectionIndex(SECTIONS, new int[]{2, 0, 1, 0});
+
+        index.insert(1, 2);
+
+        assertArrayEquals(new String[]{"A", "B", "C"}, index.getSections());
+        assertEquals(2, index.getPositionForSection(1));
+        assertEquals(4, index.getPositionForSection(2));
+        assertEquals(5, index.getItemCount());
+    }
+
+    @Test
+    public void removingTheLastItemOfASectionHidesIt() {
+        LiveSectionIndex index = new LiveSectionIndex(SECTIONS, new int[]{2, 3, 1, 4});
+
+        index.remove(2, 1);
+
+        assertArrayEquals(new String[]{"A", "B", "D"}, index.getSections());
+        assertEquals(5, index.getPositionForSection(2));
+    }
+
+    @Test
+    public void movingAnItemChangesBothSections() {
+        LiveSectionIndex index = new LiveSectionIndex(SECTIONS, new int[]{2, 3, 1, 4});
+
+        index.move(0, 3);
+
+        assertEquals(1, index.getPositionForSection(1));
+        assertEquals(4, index.getPositionForSection(2));
+        assertEquals(10, index.getItemCount());
+    }
+
+    @Test
+    public void removingARangeSpansSections() {
+        LiveSectionIndex index = new LiveSectionIndex(SECTIONS, new int[]{2, 3, 1, 4});
+
+        index.removeRange(1, 6);
+
+        assertArrayEquals(new String[]{"A", "D"}, index.getSections());
+        assertEquals(1, index.getPositionForSection(1));
+        assertEquals(4, index.getItemCount());
+    }
+
+    @Test
+    public void labelsMapToAllTheSections() {
+        LiveSectionIndex index = new LiveSectionIndex(SECTIONS, new int[]{2, 0, 1, 0});
+
+        assertEquals(1, index.getSectionIndex("B"));
+        assertEquals(-1, index.getSectionIndex("Z"));
+    }
+
+    @Test
+    public void matchesANaiveModelOverRandomUpdates() {
+        int sectionCount = 30;
+        String[] sections = new String[sectionCount];
+        int[] counts = new int[sectionCount];
+        Random random = new Random(42);
+        for (int i = 0; i < sectionCount; i++) {
+            sections[i] = "S" + i;
+            counts[i] = random.nextInt(4);
+        }
+        LiveSectionIndex index = new LiveSectionIndex(sections, counts);
+
+        for (int step = 0; step < 5000; step++) {
+            int section = random.nextInt(sectionCount);
+            switch (random.nextInt(3)) {
+                case 0:
+                    int inserted = random.nextInt(3);
+                    index.insert(section, inserted);
+                    counts[section] += inserted;
+                    break;
+                case 1:
+                    int removed = random.nextInt(counts[section] + 1);
+                    index.remove(section, removed);
+                    counts[section] -= removed;
+                    break;
+                default:
+                    if (counts[section] > 0) {
+                        int to = random.nextInt(sectionCount);
+                        index.move(section, to);
+                        counts[section]--;
+                        counts[to]++;
+                    }
+                    break;
+            }
+            assertMatches(sections, counts, index);
+        }
+    }
+
+    private static void assertMatches(String[] sections, int[] counts, LiveSectionIndex index) {
+        List<String> visible = new ArrayList<>();
+        List<Integer> starts = new ArrayList<>();
+        int position = 0;
+        for (int i = 0; i < sections.length; i++) {
+            if (counts[i] > 0) {
+                visible.add(sections[i]);
+                starts.add(position);
+            }
+            position += counts[i];
+        }
+        assertArrayEquals(visible.toArray(new String[visible.size()]), index.getSections());
+        assertEquals(position, index.getItemCount());
+        for (int i = 0; i < starts.size(); i++) {
+            assertEquals(starts.get(i).intValue(), index.getPositionForSection(i));
+            assertEquals(i, index.getSectionForPosition(starts.get(i)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void everySectionNeedsACount() {
+        new LiveSectionIndex(SECTIONS, new int[]{1, 2});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void countsCantBeNegative() {
+        new LiveSectionIndex(SECTIONS, new int[]{1, -1, 0, 0});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cantRemoveMoreThanTheSectionHas() {
+        new LiveSectionIndex(SECTIONS, new int[]{2, 3, 1, 4}).remove(2, 2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void cantRemoveARangeOutOfTheItems() {
+        new LiveSectionIndex(SECTIONS, new int[]{2, 3, 1, 4}).removeRange(8, 3);
+    }
+}
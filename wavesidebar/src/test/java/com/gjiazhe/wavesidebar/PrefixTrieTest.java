@@ -0,0 +1,93 @@
+package com.gjiazhe.wavesidebar;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PrefixTrieTest {
+    private static final SectionIndexLoader.KeyExtractor<String> KEYS =
+            new SectionIndexLoader.KeyExtractor<String>() {
+                @Override
+                public CharSequence getKey(String item) {
+                    return item;
+                }
+            };
+
+    private static final List<String> NAMES = Arrays.asList(
+            "Adam", "alice", "Bob", "S", "Sam", "sara", "Sean", "Sh", "Shawn", "Zed");
+
+    @Test
+    public void childrenAreTheNextLetters() {
+        PrefixTrie trie = new PrefixTrie(NAMES, KEYS);
+
+        SectionIndex children = trie.getChildren("S");
+
+        assertArrayEquals(new String[]{"Sa", "Se", "Sh"}, children.getSections());
+        assertArrayEquals(new int[]{4, 6, 7}, children.getSectionStartPositions());
+        assertEquals(9, children.getItemCount());
+    }
+
+    @Test
+    public void theRootChildrenAreTheFirstLetters() {
+        PrefixTrie trie = new PrefixTrie(NAMES, KEYS);
+
+        assertArrayEquals(new String[]{"A", "B", "S", "Z"}, trie.getChildren("").getSections());
+        assertEquals(10, trie.getItemCount());
+    }
+
+    @Test
+    public void prefixesAreCaseInsensitive() {
+        PrefixTrie trie = new PrefixTrie(NAMES, KEYS);
+
+        assertEquals(7, trie.getPositionForPrefix("sh"));
+        assertEquals(2, trie.getCountForPrefix("SH"));
+        assertEquals(2, trie.getCountForPrefix("a"));
+        assertArrayEquals(new String[]{"Sa", "Se", "Sh"}, trie.getChildren("s").getSections());
+    }
+
+    @Test
+    public void missingPrefixesAreNotFound() {
+        PrefixTrie trie = new PrefixTrie(NAMES, KEYS);
+
+        assertEquals(-1, trie.getPositionForPrefix("X"));
+        assertEquals(0, trie.getCountForPrefix("Sx"));
+        assertNull(trie.getChildren("X"));
+    }
+
+    @Test
+    public void theTrieStopsAtItsDepth() {
+        PrefixTrie trie = new PrefixTrie(NAMES, KEYS, 2);
+
+        assertEquals(7, trie.getPositionForPrefix("Sh"));
+        assertEquals(-1, trie.getPositionForPrefix("Sha"));
+        assertNull(trie.getChildren("Sh"));
+    }
+
+    @Test
+    public void aSubIndexNeedsTwoChildren() {
+        PrefixTrie trie = new PrefixTrie(NAMES, KEYS);
+
+        assertNull(trie.getSubIndex(3, "Z"));
+        assertArrayEquals(new String[]{"Sa", "Se", "Sh"}, trie.getSubIndex(2, "S").getSections());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void itemsOfAPrefixMustBeNextToEachOther() {
+        new PrefixTrie(Arrays.asList("Sa", "Sb", "Sa"), KEYS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void itemsMustBeSortedNotOnlyGrouped() {
+        new PrefixTrie(Arrays.asList("James", "John", "Jessica"), KEYS, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void theDepthMustBePositive() {
+        new PrefixTrie(NAMES, KEYS, 0);
+    }
+}